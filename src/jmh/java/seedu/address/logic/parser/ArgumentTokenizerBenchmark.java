@@ -0,0 +1,92 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOUSE_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOWER_BOUND_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTAL_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PROPERTY_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNIT_NUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UPPER_BOUND_PRICE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures tokenizing the arguments of an {@code addListing} command for every listing of an address book with
+ * {@link ArgumentTokenizer#tokenize}, with the prefixes that {@code AddListingCommandParser} uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<String> arguments;
+
+    /**
+     * Generates the listings, and the arguments that would add each of them.
+     */
+    @Setup
+    public void setUp() {
+        arguments = AddressBookGenerator.generate(size).getListingList().stream()
+                .map(ArgumentTokenizerBenchmark::toArguments)
+                .toList();
+    }
+
+    private static String toArguments(Listing listing) {
+        PriceRange priceRange = listing.getPriceRange();
+        StringBuilder builder = new StringBuilder()
+                .append(' ').append(PREFIX_POSTAL_CODE.getPrefix()).append(listing.getPostalCode().postalCode);
+        if (listing.getUnitNumber() != null) {
+            builder.append(' ').append(PREFIX_UNIT_NUMBER.getPrefix()).append(listing.getUnitNumber().unitNumber);
+        }
+        if (listing.getHouseNumber() != null) {
+            builder.append(' ').append(PREFIX_HOUSE_NUMBER.getPrefix()).append(listing.getHouseNumber().houseNumber);
+        }
+        if (listing.getPropertyName() != null) {
+            builder.append(' ').append(PREFIX_PROPERTY_NAME.getPrefix())
+                    .append(listing.getPropertyName().propertyName);
+        }
+        if (priceRange.lowerBoundPrice != null) {
+            builder.append(' ').append(PREFIX_LOWER_BOUND_PRICE.getPrefix())
+                    .append(priceRange.lowerBoundPrice.toBigDecimal().toPlainString());
+        }
+        if (priceRange.upperBoundPrice != null) {
+            builder.append(' ').append(PREFIX_UPPER_BOUND_PRICE.getPrefix())
+                    .append(priceRange.upperBoundPrice.toBigDecimal().toPlainString());
+        }
+        for (Tag tag : listing.getTags()) {
+            builder.append(' ').append(PREFIX_TAG.getPrefix()).append(tag.getTagName());
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public int tokenizeArguments() {
+        int valueCount = 0;
+        for (String argument : arguments) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argument, PREFIX_POSTAL_CODE,
+                    PREFIX_UNIT_NUMBER, PREFIX_HOUSE_NUMBER, PREFIX_LOWER_BOUND_PRICE, PREFIX_UPPER_BOUND_PRICE,
+                    PREFIX_PROPERTY_NAME, PREFIX_TAG, PREFIX_NEW_TAG);
+            valueCount += argMultimap.getAllValues(PREFIX_TAG).size();
+        }
+        return valueCount;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.listing;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures {@link UniqueListingList#contains} for a listing in the list and for an equal listing that is not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniqueListingListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private UniqueListingList listings;
+    private Listing presentListing;
+    private Listing absentListing;
+
+    /**
+     * Fills the list with the listings of a generated address book.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = AddressBookGenerator.generate(size);
+        listings = new UniqueListingList();
+        listings.setListings(addressBook.getListingList());
+
+        presentListing = addressBook.getListingList().get(size / 2);
+        absentListing = Listing.of(new PostalCode("999999"), new UnitNumber("99-9999"), null, new PriceRange(),
+                null, new HashSet<>(), new ArrayList<>(), true);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return listings.contains(presentListing);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return listings.contains(absentListing);
+    }
+}
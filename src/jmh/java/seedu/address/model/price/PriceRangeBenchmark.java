@@ -0,0 +1,53 @@
+package seedu.address.model.price;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures checking the price range of a preference against the price range of every listing of an address book
+ * with {@link PriceRange#doPriceRangeOverlap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceRangeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<PriceRange> listingPriceRanges;
+    private PriceRange preferencePriceRange;
+
+    /**
+     * Generates the listings, and picks the price range of the first preference of the first person.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = AddressBookGenerator.generate(size);
+        listingPriceRanges = addressBook.getListingList().stream().map(listing -> listing.getPriceRange()).toList();
+        preferencePriceRange = addressBook.getPersonList().get(0).getPropertyPreferences().get(0).getPriceRange();
+    }
+
+    @Benchmark
+    public int countOverlaps() {
+        int overlapping = 0;
+        for (PriceRange listingPriceRange : listingPriceRanges) {
+            if (preferencePriceRange.doPriceRangeOverlap(listingPriceRange)) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+}
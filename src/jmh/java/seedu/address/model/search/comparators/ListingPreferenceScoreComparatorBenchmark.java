@@ -0,0 +1,61 @@
+package seedu.address.model.search.comparators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures ranking every listing of an address book against a preference with a
+ * {@link ListingPreferenceScoreComparator}, as matching a preference does, and scoring the listings alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingPreferenceScoreComparatorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Listing> listings;
+    private PropertyPreference preference;
+
+    /**
+     * Generates the listings, and picks the first preference of the first person to rank them against.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = AddressBookGenerator.generate(size);
+        listings = List.copyOf(addressBook.getListingList());
+        preference = addressBook.getPersonList().get(0).getPropertyPreferences().get(0);
+    }
+
+    @Benchmark
+    public Listing sortListings() {
+        List<Listing> sorted = new ArrayList<>(listings);
+        sorted.sort(new ListingPreferenceScoreComparator(preference, listings));
+        return sorted.get(0);
+    }
+
+    @Benchmark
+    public int scoreListings() {
+        int totalScore = 0;
+        for (Listing listing : listings) {
+            totalScore += ListingPreferenceScoreComparator.score(preference, listing);
+        }
+        return totalScore;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.search.predicates;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures filtering every listing of an address book with a {@link ListingContainsAllTagsPredicate} that tests the
+ * tags of each listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingContainsAllTagsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<Listing> listings;
+    private ListingContainsAllTagsPredicate predicate;
+
+    /**
+     * Generates the listings, and a predicate for two of their tags.
+     */
+    @Setup
+    public void setUp() {
+        listings = List.copyOf(AddressBookGenerator.generate(size).getListingList());
+        predicate = new ListingContainsAllTagsPredicate(
+                Set.of(AddressBookGenerator.getTagName(0), AddressBookGenerator.getTagName(1)));
+    }
+
+    @Benchmark
+    public int filterListings() {
+        int matched = 0;
+        for (Listing listing : listings) {
+            if (predicate.test(listing)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
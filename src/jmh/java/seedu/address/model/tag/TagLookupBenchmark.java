@@ -0,0 +1,67 @@
+package seedu.address.model.tag;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares checking whether tags exist by building a throwaway {@code Tag} for each tag name, as
+ * {@code AddressBook} used to, against looking the tag names up directly with {@link UniqueTagMap#containsTagName}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TagLookupBenchmark {
+
+    private static final String[] TAG_NAMES = {"hdb", "condo", "landed", "pool", "gym", "near mrt",
+        "pet-friendly", "high floor", "corner unit", "renovated", "freehold", "sea view"};
+
+    private UniqueTagMap tagMap;
+
+    /**
+     * Fills the tag map with every other tag name, so that half of the lookups miss.
+     */
+    @Setup
+    public void setUp() {
+        tagMap = new UniqueTagMap();
+        for (int i = 0; i < TAG_NAMES.length; i += 2) {
+            tagMap.add(new Tag(TAG_NAMES[i], new ArrayList<>(), new ArrayList<>()));
+        }
+    }
+
+    /**
+     * Validates each tag name with the regex and wraps it in a new {@code Tag} before looking it up.
+     */
+    @Benchmark
+    public int lookUpByThrowawayTag() {
+        int found = 0;
+        for (String tagName : TAG_NAMES) {
+            if (tagName.matches(Tag.VALIDATION_REGEX)
+                    && tagMap.contains(new Tag(tagName, new ArrayList<>(), new ArrayList<>()))) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Looks each tag name up directly.
+     */
+    @Benchmark
+    public int lookUpByTagName() {
+        int found = 0;
+        for (String tagName : TAG_NAMES) {
+            if (tagMap.containsTagName(tagName)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures reading a whole address book from a binary snapshot with {@link BinaryAddressBookStorage}, and saving one
+ * after each command changes a person and a listing. The save is split into the capture, which runs on the thread
+ * that runs commands, and the write, which runs on the storage writer thread. At 100000 persons and listings, the
+ * capture should take a few milliseconds, and the whole save well under a second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BinaryAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private BinaryAddressBookStorage storage;
+    private int nextIndex;
+
+    /**
+     * Saves a generated address book to a snapshot in a new temporary folder, for the reads and later saves.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("addressbook-benchmark");
+        addressBook = AddressBookGenerator.generate(size);
+
+        Path jsonFilePath = folder.resolve("addressbook.json");
+        storage = new BinaryAddressBookStorage(BinaryAddressBookStorage.getSnapshotFilePath(jsonFilePath),
+                new JsonAddressBookStorage(jsonFilePath));
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the temporary folder and everything in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void captureAddressBook() throws IOException {
+        changeNextElements();
+        storage.captureAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        changeNextElements();
+        storage.captureAddressBook(addressBook);
+        storage.writeCapturedAddressBook();
+    }
+
+    /**
+     * Sets a person and a listing over themselves, as commands that edit them in place do.
+     */
+    private void changeNextElements() {
+        nextIndex = (nextIndex + 1) % size;
+        Person person = addressBook.getPersonList().get(nextIndex);
+        addressBook.setPerson(person, person);
+        Listing listing = addressBook.getListingList().get(nextIndex);
+        addressBook.setListing(listing, listing);
+    }
+}
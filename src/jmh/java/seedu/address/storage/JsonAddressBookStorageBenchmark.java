@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.AddressBookGenerator;
+
+/**
+ * Measures reading a whole address book from a JSON file with {@link JsonAddressBookStorage}, and writing a whole
+ * address book to one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private Path exportFilePath;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * Writes a generated address book to a file in a new temporary folder, for the reads.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("addressbook-benchmark");
+        exportFilePath = folder.resolve("export.json");
+        addressBook = AddressBookGenerator.generate(size);
+
+        Path filePath = folder.resolve("addressbook.json");
+        storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Deletes the temporary folder and everything in it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook, exportFilePath);
+    }
+}
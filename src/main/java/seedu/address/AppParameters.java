@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.AddressBookGenerator;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -17,7 +19,12 @@ import seedu.address.commons.util.ToStringBuilder;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final Path DEFAULT_GENERATED_FILE_PATH = Paths.get("data", "generated.json");
+
     private Path configPath;
+    private Integer generatedSize;
+    private long generatedSeed = AddressBookGenerator.DEFAULT_SEED;
+    private Path generatedFilePath = DEFAULT_GENERATED_FILE_PATH;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +34,58 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the number of persons and of listings to generate a data file with, or null if no data file is to be
+     * generated.
+     */
+    public Integer getGeneratedSize() {
+        return generatedSize;
+    }
+
+    public void setGeneratedSize(Integer generatedSize) {
+        this.generatedSize = generatedSize;
+    }
+
+    public long getGeneratedSeed() {
+        return generatedSeed;
+    }
+
+    public void setGeneratedSeed(long generatedSeed) {
+        this.generatedSeed = generatedSeed;
+    }
+
+    public Path getGeneratedFilePath() {
+        return generatedFilePath;
+    }
+
+    public void setGeneratedFilePath(Path generatedFilePath) {
+        this.generatedFilePath = generatedFilePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments given to the launcher, before the application is started. Only named
+     * parameters, of the form {@code --name=value}, are read.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +94,48 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        parseGenerateParameters(namedParameters, appParameters);
         return appParameters;
     }
 
+    /**
+     * Parses the parameters for generating a data file: {@code generate} for the number of persons and of listings,
+     * {@code seed} for the seed to generate them with, and {@code output} for the file to write.
+     */
+    private static void parseGenerateParameters(Map<String, String> namedParameters, AppParameters appParameters) {
+        String sizeParameter = namedParameters.get("generate");
+        if (sizeParameter == null) {
+            return;
+        }
+
+        try {
+            int size = Integer.parseInt(sizeParameter);
+            if (size < 0) {
+                throw new NumberFormatException();
+            }
+            appParameters.setGeneratedSize(size);
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid number to generate " + sizeParameter + ". No data file will be generated.");
+            return;
+        }
+
+        String seedParameter = namedParameters.get("seed");
+        if (seedParameter != null) {
+            try {
+                appParameters.setGeneratedSeed(Long.parseLong(seedParameter));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid seed " + seedParameter + ". Using default seed.");
+            }
+        }
+
+        String outputParameter = namedParameters.get("output");
+        if (outputParameter != null && FileUtil.isValidPath(outputParameter)) {
+            appParameters.setGeneratedFilePath(Paths.get(outputParameter));
+        } else if (outputParameter != null) {
+            logger.warning("Invalid output path " + outputParameter + ". Using default output path.");
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +148,24 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(generatedSize, otherAppParameters.generatedSize)
+                && generatedSeed == otherAppParameters.generatedSeed
+                && generatedFilePath.equals(otherAppParameters.generatedFilePath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, generatedSize, generatedSeed, generatedFilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("generatedSize", generatedSize)
+                .add("generatedSeed", generatedSeed)
+                .add("generatedFilePath", generatedFilePath)
                 .toString();
     }
 }
@@ -1,9 +1,15 @@
 package seedu.address;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.AddressBookGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
 
 /**
  * The main entry point to the application.
@@ -20,11 +26,19 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --generate=SIZE}, it instead writes a data file of {@code SIZE} generated persons and listings, to
+ * {@code --output=FILE} with {@code --seed=SEED} if given, without starting the application.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getGeneratedSize() != null) {
+            generateDataFile(appParameters);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -38,4 +52,23 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Writes a data file of generated persons and listings, as given by {@code appParameters}.
+     */
+    private static void generateDataFile(AppParameters appParameters) {
+        int size = appParameters.getGeneratedSize();
+        long seed = appParameters.getGeneratedSeed();
+        Path filePath = appParameters.getGeneratedFilePath();
+        logger.info(String.format("Generating %1$d persons and %1$d listings with seed %2$d to %3$s",
+                size, seed, filePath));
+
+        ReadOnlyAddressBook addressBook = AddressBookGenerator.generate(size, size, seed);
+        try {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            logger.severe("Failed to write generated data file " + StringUtil.getDetails(e));
+            System.exit(1);
+        }
+    }
 }
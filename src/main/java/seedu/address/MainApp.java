@@ -7,8 +7,11 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AllocationRecorder;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LatencyRecorder;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PhaseTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -22,6 +25,7 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -51,19 +55,44 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("initConfig")) {
+            config = initConfig(appParameters.getConfigPath());
+            initLogging(config);
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        UserPrefs userPrefs;
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("initPrefs")) {
+            userPrefs = initPrefs(userPrefsStorage);
+        }
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("createLogic")) {
+            logic = new LogicManager(model, storage);
+        }
 
-        ui = new UiManager(logic);
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("createUi")) {
+            ui = new UiManager(logic);
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code config}. The JSON file at
+     * {@code userPrefs}'s address book file path is used either way, as the data file or to import from.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), config.isAddressBookPrettyPrinted());
+        if (config.getAddressBookFormat() != Config.AddressBookFormat.BINARY) {
+            return jsonAddressBookStorage;
+        }
+
+        return new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getSnapshotFilePath(userPrefs.getAddressBookFilePath()),
+                jsonAddressBookStorage);
     }
 
     /**
@@ -76,7 +105,7 @@ public class MainApp extends Application {
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
-        try {
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("readAddressBook")) {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
@@ -91,14 +120,17 @@ public class MainApp extends Application {
             initialData = SampleDataUtil.getSampleAddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("createModel")) {
+            return new ModelManager(initialData, userPrefs);
+        }
     }
 
     private void handleCorruptedFile(Path corruptedFilePath) {
         // Rename the corrupted file with incrementing number if needed
         Path directory = corruptedFilePath.getParent();
         String baseName = "invalid_matchestate";
-        String extension = ".json";
+        String fileName = corruptedFilePath.getFileName().toString();
+        String extension = fileName.contains(".") ? fileName.substring(fileName.lastIndexOf('.')) : "";
 
         Path newFilePath = directory.resolve(baseName + extension);
         int counter = 1;
@@ -194,12 +226,36 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting MatchEstate " + MainApp.VERSION);
-        ui.start(primaryStage);
+        try (PhaseTimer.Phase phase = PhaseTimer.STARTUP.begin("startUi")) {
+            ui.start(primaryStage);
+        }
+        logger.info(PhaseTimer.STARTUP.getReport());
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping MatchEstate ] =============================");
+        logger.info(LatencyRecorder.COMMANDS.getReport());
+        logger.info(AllocationRecorder.COMMANDS.getReport());
+        storage.flush();
+        try {
+            storage.checkBackgroundSaves();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background, saving again "
+                    + StringUtil.getDetails(e));
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException retryException) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(retryException));
+            }
+        }
+
+        try {
+            storage.closeAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to close address book " + StringUtil.getDetails(e));
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
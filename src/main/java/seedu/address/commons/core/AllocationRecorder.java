@@ -0,0 +1,164 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.PhaseTimer.UNKNOWN;
+import static seedu.address.commons.core.PhaseTimer.addKnown;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how many bytes repeated work, such as executing commands, allocated on the thread running it, and how many
+ * garbage collections ran in the JVM meanwhile, aggregated per kind of work.
+ */
+public class AllocationRecorder {
+
+    /** The allocations of commands, by command word. */
+    public static final AllocationRecorder COMMANDS = new AllocationRecorder("Command");
+
+    private final String name;
+    private final Map<String, AllocationTotals> totals = new TreeMap<>();
+
+    /**
+     * Constructs an {@code AllocationRecorder} with nothing recorded yet.
+     *
+     * @param name the name of the work recorded, which heads the report.
+     */
+    public AllocationRecorder(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    /**
+     * Starts measuring a piece of work, which ends when {@link Measurement#end(String)} is called on the returned
+     * {@code Measurement}. The measurement must be ended on the thread that began it.
+     */
+    public Measurement begin() {
+        return new Measurement();
+    }
+
+    /**
+     * Records a piece of the work {@code key} that allocated {@code allocatedBytes} bytes, during which
+     * {@code gcCount} garbage collections ran for {@code gcMillis} milliseconds. Counts that the JVM cannot measure
+     * are {@link PhaseTimer#UNKNOWN}.
+     */
+    public synchronized void record(String key, long allocatedBytes, long gcCount, long gcMillis) {
+        requireNonNull(key);
+        totals.computeIfAbsent(key, AllocationTotals::new).add(allocatedBytes, gcCount, gcMillis);
+    }
+
+    /**
+     * Returns the totals of the work {@code key} recorded so far, or null if nothing has been recorded for it.
+     */
+    public synchronized AllocationTotals getTotals(String key) {
+        AllocationTotals keyTotals = totals.get(key);
+        return keyTotals == null ? null : keyTotals.copy();
+    }
+
+    /**
+     * Returns a report of what was recorded so far, with one line per kind of work giving its count, the mean and
+     * maximum bytes allocated, and the garbage collections that ran during it.
+     */
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder(name).append(" allocations:");
+        if (totals.isEmpty()) {
+            return report.append("\n  none recorded yet").toString();
+        }
+
+        report.append('\n').append(String.format("  %-16s %7s %14s %14s %6s %8s", "", "count", "mean alloc",
+                "max alloc", "GCs", "GC ms"));
+        for (AllocationTotals keyTotals : totals.values()) {
+            report.append('\n').append(keyTotals);
+        }
+        return report.toString();
+    }
+
+    /**
+     * A piece of work being measured, which is recorded when it ends.
+     */
+    public class Measurement {
+        private final PhaseTimer.Meter meter = new PhaseTimer.Meter();
+
+        private Measurement() {
+        }
+
+        /**
+         * Ends the measurement and records it as a piece of the work {@code key}. Ending a measurement again has no
+         * effect.
+         */
+        public void end(String key) {
+            PhaseTimer.PhaseTiming usage = meter.stop(key);
+            if (usage != null) {
+                record(key, usage.getAllocatedBytes(), usage.getGcCount(), usage.getGcMillis());
+            }
+        }
+    }
+
+    /**
+     * The totals recorded for one kind of work. Totals that the JVM cannot measure are {@link PhaseTimer#UNKNOWN}.
+     */
+    public static class AllocationTotals {
+        private final String key;
+        private long count;
+        private long allocatedBytes;
+        private long maxAllocatedBytes;
+        private long gcCount;
+        private long gcMillis;
+
+        private AllocationTotals(String key) {
+            this.key = key;
+        }
+
+        private void add(long allocatedBytes, long gcCount, long gcMillis) {
+            count++;
+            this.allocatedBytes = addKnown(this.allocatedBytes, allocatedBytes);
+            maxAllocatedBytes = this.allocatedBytes == UNKNOWN ? UNKNOWN
+                    : Math.max(maxAllocatedBytes, allocatedBytes);
+            this.gcCount = addKnown(this.gcCount, gcCount);
+            this.gcMillis = addKnown(this.gcMillis, gcMillis);
+        }
+
+        private AllocationTotals copy() {
+            AllocationTotals copy = new AllocationTotals(key);
+            copy.count = count;
+            copy.allocatedBytes = allocatedBytes;
+            copy.maxAllocatedBytes = maxAllocatedBytes;
+            copy.gcCount = gcCount;
+            copy.gcMillis = gcMillis;
+            return copy;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getMaxAllocatedBytes() {
+            return maxAllocatedBytes;
+        }
+
+        public long getGcCount() {
+            return gcCount;
+        }
+
+        public long getGcMillis() {
+            return gcMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("  %-16s %7d %14s %14s %6s %8s", key, count,
+                    formatBytes(allocatedBytes == UNKNOWN ? UNKNOWN : allocatedBytes / count),
+                    formatBytes(maxAllocatedBytes),
+                    gcCount == UNKNOWN ? "?" : gcCount,
+                    gcMillis == UNKNOWN ? "?" : gcMillis);
+        }
+
+        private static String formatBytes(long bytes) {
+            return bytes == UNKNOWN ? "?" : String.format("%,d KB", bytes / 1024);
+        }
+    }
+}
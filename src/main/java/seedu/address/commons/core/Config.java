@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isAddressBookPrettyPrinted = false;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isAddressBookPrettyPrinted() {
+        return isAddressBookPrettyPrinted;
+    }
+
+    public void setAddressBookPrettyPrinted(boolean isAddressBookPrettyPrinted) {
+        this.isAddressBookPrettyPrinted = isAddressBookPrettyPrinted;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +65,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isAddressBookPrettyPrinted == otherConfig.isAddressBookPrettyPrinted
+                && addressBookFormat == otherConfig.addressBookFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isAddressBookPrettyPrinted, addressBookFormat);
     }
 
     @Override
@@ -60,7 +80,18 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isAddressBookPrettyPrinted", isAddressBookPrettyPrinted)
+                .add("addressBookFormat", addressBookFormat)
                 .toString();
     }
 
+    /**
+     * The formats the address book data file can be kept in.
+     */
+    public enum AddressBookFormat {
+        /** The JSON file that is also used to import and export address books. */
+        JSON,
+        /** A binary snapshot that loads faster, kept beside the JSON file. */
+        BINARY
+    }
 }
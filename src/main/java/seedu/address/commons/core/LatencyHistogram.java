@@ -0,0 +1,95 @@
+package seedu.address.commons.core;
+
+/**
+ * Counts latencies in nanoseconds in a fixed number of buckets, so that its memory does not grow with the number of
+ * latencies recorded.
+ *
+ * The buckets are log-linear: the range between each power of two and the next is split into
+ * {@value #SUB_BUCKET_COUNT} buckets of equal width. A percentile is therefore reported at most 12.5% above the true
+ * latency, for latencies of up to 2^{@value #MAX_EXPONENT} ns (about 18 minutes). Longer latencies are counted in
+ * the last bucket, while the maximum is kept exactly.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] bucketCounts = new long[BUCKET_COUNT];
+    private long count;
+    private long maxNanos;
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. A negative latency is recorded as zero.
+     */
+    public synchronized void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        bucketCounts[getBucketIndex(latency)]++;
+        count++;
+        maxNanos = Math.max(maxNanos, latency);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the latency at or below which {@code percentile} percent of the recorded latencies are, rounded up to
+     * the highest latency of its bucket but never above the maximum, or 0 if nothing has been recorded.
+     */
+    public synchronized long getNanosAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the index of the bucket that {@code nanos} is counted in. Latencies below {@value #SUB_BUCKET_COUNT} ns
+     * have a bucket each, and above that the bucket is chosen by the position of the highest set bit and the
+     * {@value #SUB_BUCKET_BITS} bits below it.
+     */
+    static int getBucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest latency counted in the bucket at {@code index}.
+     */
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        if (index == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKET_COUNT + subBucket) * width + width - 1;
+    }
+}
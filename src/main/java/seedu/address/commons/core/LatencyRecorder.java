@@ -0,0 +1,118 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latencies of the phases of repeated work, such as executing commands, in a {@link LatencyHistogram} per
+ * kind of work and phase.
+ */
+public class LatencyRecorder {
+
+    /** The phase of parsing a command. */
+    public static final String PHASE_PARSE = "parse";
+
+    /** The phase of executing a parsed command. */
+    public static final String PHASE_EXECUTE = "execute";
+
+    /** The phase of capturing the address book after a command, to be written by a background save. */
+    public static final String PHASE_SAVE = "save";
+
+    /** All phases of a command together. */
+    public static final String PHASE_TOTAL = "total";
+
+    /** The latencies of commands, by command word. */
+    public static final LatencyRecorder COMMANDS = new LatencyRecorder("Command",
+            PHASE_PARSE, PHASE_EXECUTE, PHASE_SAVE, PHASE_TOTAL);
+
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99};
+
+    private final String name;
+    private final List<String> phaseNames;
+    private final Map<String, LatencyHistogram[]> histograms = new TreeMap<>();
+
+    /**
+     * Constructs a {@code LatencyRecorder} with no latencies recorded yet.
+     *
+     * @param name the name of the work recorded, which heads the report.
+     * @param phaseNames the phases of the work, in the order they are reported.
+     */
+    public LatencyRecorder(String name, String... phaseNames) {
+        requireNonNull(name);
+        checkArgument(phaseNames.length > 0, "A recorder needs at least one phase");
+        this.name = name;
+        this.phaseNames = List.of(phaseNames);
+    }
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds for the phase {@code phaseName} of the work {@code key}.
+     */
+    public synchronized void record(String key, String phaseName, long nanos) {
+        requireNonNull(key);
+        int phaseIndex = phaseNames.indexOf(phaseName);
+        checkArgument(phaseIndex >= 0, "Unknown phase: " + phaseName);
+
+        histograms.computeIfAbsent(key, unused -> createHistograms())[phaseIndex].record(nanos);
+    }
+
+    private LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] phaseHistograms = new LatencyHistogram[phaseNames.size()];
+        Arrays.setAll(phaseHistograms, unused -> new LatencyHistogram());
+        return phaseHistograms;
+    }
+
+    /**
+     * Returns the histogram of the phase {@code phaseName} of the work {@code key}, or null if nothing has been
+     * recorded for {@code key}.
+     */
+    public synchronized LatencyHistogram getHistogram(String key, String phaseName) {
+        int phaseIndex = phaseNames.indexOf(phaseName);
+        checkArgument(phaseIndex >= 0, "Unknown phase: " + phaseName);
+
+        LatencyHistogram[] phaseHistograms = histograms.get(key);
+        return phaseHistograms == null ? null : phaseHistograms[phaseIndex];
+    }
+
+    /**
+     * Returns a report of the latencies recorded so far, with one line per kind of work and phase giving the count,
+     * percentiles and maximum in milliseconds.
+     */
+    public synchronized String getReport() {
+        StringBuilder report = new StringBuilder(name).append(" latencies:");
+        if (histograms.isEmpty()) {
+            return report.append("\n  none recorded yet").toString();
+        }
+
+        report.append('\n').append(String.format("  %-16s %-8s %7s %9s %9s %9s %9s", "", "phase", "count",
+                "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, LatencyHistogram[]> entry : histograms.entrySet()) {
+            String key = entry.getKey();
+            for (int i = 0; i < phaseNames.size(); i++) {
+                LatencyHistogram histogram = entry.getValue()[i];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+
+                // The key heads only the first line of its phases
+                report.append('\n').append(String.format("  %-16s %-8s %7d", key, phaseNames.get(i),
+                        histogram.getCount()));
+                key = "";
+                for (double percentile : REPORTED_PERCENTILES) {
+                    report.append(String.format(" %9.3f", toMillis(histogram.getNanosAtPercentile(percentile))));
+                }
+                report.append(String.format(" %9.3f", toMillis(histogram.getMaxNanos())));
+            }
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
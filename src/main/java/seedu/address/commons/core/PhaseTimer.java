@@ -0,0 +1,249 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times named phases of work, such as the phases of starting the app, with a monotonic clock. For each phase, it also
+ * records how many bytes the thread running the phase allocated, and how many garbage collections ran in the JVM.
+ */
+public class PhaseTimer {
+
+    /** The phases of starting the app. */
+    public static final PhaseTimer STARTUP = new PhaseTimer("Startup");
+
+    /** Stands for a count that the JVM cannot measure. */
+    public static final long UNKNOWN = -1;
+
+    private final String name;
+    private final List<PhaseTiming> timings = new ArrayList<>();
+
+    /**
+     * Constructs a {@code PhaseTimer} with no phases timed yet.
+     *
+     * @param name the name of the work the phases make up, which heads the report.
+     */
+    public PhaseTimer(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    /**
+     * Starts timing the phase named {@code phaseName}, which ends when the returned {@code Phase} is closed.
+     * The phase must be closed on the thread that began it.
+     */
+    public Phase begin(String phaseName) {
+        requireNonNull(phaseName);
+        return new Phase(phaseName);
+    }
+
+    /**
+     * Returns the phases timed so far, in the order they ended.
+     */
+    public synchronized List<PhaseTiming> getTimings() {
+        return List.copyOf(timings);
+    }
+
+    private synchronized void add(PhaseTiming timing) {
+        timings.add(timing);
+    }
+
+    /**
+     * Returns a report of the phases timed so far, one line per phase followed by their total.
+     */
+    public String getReport() {
+        List<PhaseTiming> timings = getTimings();
+        StringBuilder report = new StringBuilder(name).append(" phases:");
+
+        long totalNanos = 0;
+        long totalAllocatedBytes = 0;
+        long totalGcCount = 0;
+        long totalGcMillis = 0;
+        for (PhaseTiming timing : timings) {
+            report.append('\n').append(timing);
+            totalNanos += timing.getElapsedNanos();
+            totalAllocatedBytes = addKnown(totalAllocatedBytes, timing.getAllocatedBytes());
+            totalGcCount = addKnown(totalGcCount, timing.getGcCount());
+            totalGcMillis = addKnown(totalGcMillis, timing.getGcMillis());
+        }
+
+        report.append('\n').append(new PhaseTiming("Total", totalNanos, totalAllocatedBytes, totalGcCount,
+                totalGcMillis));
+        return report.toString();
+    }
+
+    /**
+     * Returns the sum of {@code total} and {@code count}, or {@link #UNKNOWN} if either of them is.
+     */
+    static long addKnown(long total, long count) {
+        return total == UNKNOWN || count == UNKNOWN ? UNKNOWN : total + count;
+    }
+
+    /**
+     * Returns the number of bytes the current thread has allocated so far, or {@link #UNKNOWN} if the JVM does not
+     * count them.
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return UNKNOWN;
+        }
+
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return UNKNOWN;
+        }
+        return allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns the number of garbage collections run in the JVM so far, or {@link #UNKNOWN} if no collector counts
+     * them.
+     */
+    private static long getGcCount() {
+        long count = UNKNOWN;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean.getCollectionCount() >= 0) {
+                count = Math.max(count, 0) + gcBean.getCollectionCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the time spent on garbage collection in the JVM so far in milliseconds, or {@link #UNKNOWN} if no
+     * collector measures it.
+     */
+    private static long getGcMillis() {
+        long millis = UNKNOWN;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gcBean.getCollectionTime() >= 0) {
+                millis = Math.max(millis, 0) + gcBean.getCollectionTime();
+            }
+        }
+        return millis;
+    }
+
+    /**
+     * Returns {@code end} less {@code start}, or {@link #UNKNOWN} if either of them is.
+     */
+    private static long difference(long end, long start) {
+        return end == UNKNOWN || start == UNKNOWN ? UNKNOWN : end - start;
+    }
+
+    /**
+     * A phase being timed, which is recorded when it is closed.
+     */
+    public class Phase implements AutoCloseable {
+        private final String phaseName;
+        private final Meter meter = new Meter();
+
+        private Phase(String phaseName) {
+            this.phaseName = phaseName;
+        }
+
+        /**
+         * Ends the phase and records its timing. Closing a phase again has no effect.
+         */
+        @Override
+        public void close() {
+            PhaseTiming timing = meter.stop(phaseName);
+            if (timing != null) {
+                add(timing);
+            }
+        }
+    }
+
+    /**
+     * Measures the time, the bytes allocated by the current thread, and the garbage collections run in the JVM, from
+     * when it is constructed until it is stopped. It must be stopped on the thread that constructed it.
+     */
+    static class Meter {
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private final long startGcCount;
+        private final long startGcMillis;
+        private boolean isStopped;
+
+        Meter() {
+            startAllocatedBytes = getCurrentThreadAllocatedBytes();
+            startGcCount = getGcCount();
+            startGcMillis = getGcMillis();
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Stops the meter and returns what it measured as the timing of {@code phaseName}, or returns null if it was
+         * already stopped. The time and bytes allocated are taken first, so that the rest of this is not counted.
+         */
+        PhaseTiming stop(String phaseName) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = difference(getCurrentThreadAllocatedBytes(), startAllocatedBytes);
+            if (isStopped) {
+                return null;
+            }
+            isStopped = true;
+
+            return new PhaseTiming(phaseName, elapsedNanos, allocatedBytes, difference(getGcCount(), startGcCount),
+                    difference(getGcMillis(), startGcMillis));
+        }
+    }
+
+    /**
+     * The measurements of a timed phase. Counts that the JVM cannot measure are {@link #UNKNOWN}.
+     */
+    public static class PhaseTiming {
+        private final String phaseName;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        /**
+         * Constructs a {@code PhaseTiming} with the given measurements.
+         */
+        public PhaseTiming(String phaseName, long elapsedNanos, long allocatedBytes, long gcCount, long gcMillis) {
+            requireNonNull(phaseName);
+            this.phaseName = phaseName;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        public String getPhaseName() {
+            return phaseName;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getGcCount() {
+            return gcCount;
+        }
+
+        public long getGcMillis() {
+            return gcMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("  %-20s %8.1f ms  %12s allocated  %s GCs (%s ms)", phaseName,
+                    elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    allocatedBytes == UNKNOWN ? "?" : String.format("%,d KB", allocatedBytes / 1024),
+                    gcCount == UNKNOWN ? "?" : gcCount,
+                    gcMillis == UNKNOWN ? "?" : gcMillis);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records spans of work, such as parsing a command or writing the data file, with the thread that did each of them.
+ * Spans nest by time on each thread, so a span begun while another is open on the same thread shows inside it.
+ *
+ * A span may carry an argument, such as the command being executed, so that spans of the same kind share a name and
+ * can be grouped in the timeline while still telling apart what each of them did.
+ *
+ * Only the most recent spans are kept, in a ring buffer of a fixed capacity, so tracing can stay on without its memory
+ * growing. They can be exported at any time as a Chrome trace file, to be opened in {@code chrome://tracing} or
+ * <a href="https://ui.perfetto.dev">Perfetto</a> as one timeline.
+ */
+public class Tracer {
+
+    /** The number of spans kept by {@link #APP}. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** The spans of the whole app, across Logic, Model, Storage and UI. */
+    public static final Tracer APP = new Tracer(DEFAULT_CAPACITY);
+
+    public static final String CATEGORY_LOGIC = "logic";
+    public static final String CATEGORY_MODEL = "model";
+    public static final String CATEGORY_STORAGE = "storage";
+    public static final String CATEGORY_UI = "ui";
+
+    private static final Span DISABLED_SPAN = new Span(null, null, null, null, null);
+
+    private final long originNanos = System.nanoTime();
+    private final String[] categories;
+    private final String[] names;
+    private final String[] argNames;
+    private final String[] argValues;
+    private final long[] threadIds;
+    private final String[] threadNames;
+    private final long[] startNanos;
+    private final long[] durationNanos;
+    private long recordedCount;
+    private volatile boolean isEnabled = true;
+
+    /**
+     * Constructs a {@code Tracer} that keeps the most recent {@code capacity} spans.
+     */
+    public Tracer(int capacity) {
+        checkArgument(capacity > 0, "A tracer needs room for at least one span");
+        categories = new String[capacity];
+        names = new String[capacity];
+        argNames = new String[capacity];
+        argValues = new String[capacity];
+        threadIds = new long[capacity];
+        threadNames = new String[capacity];
+        startNanos = new long[capacity];
+        durationNanos = new long[capacity];
+    }
+
+    /**
+     * Starts a span of work named {@code name} in {@code category}, which ends when the returned {@code Span} is
+     * closed. The span must be closed on the thread that began it. While tracing is disabled, nothing is recorded.
+     */
+    public Span begin(String category, String name) {
+        requireNonNull(category);
+        requireNonNull(name);
+        return isEnabled ? new Span(this, category, name, null, null) : DISABLED_SPAN;
+    }
+
+    /**
+     * Starts a span of work named {@code name} in {@code category}, as {@link #begin(String, String)} does, with the
+     * argument {@code argName} set to {@code argValue}.
+     */
+    public Span begin(String category, String name, String argName, String argValue) {
+        requireNonNull(category);
+        requireNonNull(name);
+        requireNonNull(argName);
+        requireNonNull(argValue);
+        return isEnabled ? new Span(this, category, name, argName, argValue) : DISABLED_SPAN;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enables or disables recording spans. Spans already recorded are kept.
+     */
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    private synchronized void record(String category, String name, String argName, String argValue, long start,
+            long duration) {
+        int index = (int) (recordedCount % names.length);
+        categories[index] = category;
+        names[index] = name;
+        argNames[index] = argName;
+        argValues[index] = argValue;
+        startNanos[index] = start;
+        durationNanos[index] = duration;
+
+        // The name is kept with each span rather than once per thread, so threads that have ended are forgotten with
+        // their spans instead of piling up
+        Thread thread = Thread.currentThread();
+        threadIds[index] = thread.getId();
+        threadNames[index] = thread.getName();
+        recordedCount++;
+    }
+
+    /**
+     * Returns the spans kept, from the least to the most recently ended.
+     */
+    public synchronized List<SpanRecord> getSpans() {
+        int keptCount = (int) Math.min(recordedCount, names.length);
+        List<SpanRecord> spans = new ArrayList<>(keptCount);
+        for (long i = recordedCount - keptCount; i < recordedCount; i++) {
+            int index = (int) (i % names.length);
+            spans.add(new SpanRecord(categories[index], names[index], argNames[index], argValues[index],
+                    threadIds[index], threadNames[index], startNanos[index] - originNanos, durationNanos[index]));
+        }
+        return spans;
+    }
+
+    /**
+     * Writes the spans kept to {@code filePath} in the Chrome trace event format, replacing the file if it exists.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void exportChromeTrace(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        List<SpanRecord> spans = getSpans();
+        Map<Long, String> threads = new HashMap<>();
+        for (SpanRecord span : spans) {
+            threads.put(span.getThreadId(), span.getThreadName());
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath));
+                JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("traceEvents");
+            for (Map.Entry<Long, String> thread : threads.entrySet()) {
+                // Metadata events name the row of each thread in the timeline
+                generator.writeStartObject();
+                generator.writeStringField("name", "thread_name");
+                generator.writeStringField("ph", "M");
+                generator.writeNumberField("pid", 1);
+                generator.writeNumberField("tid", thread.getKey());
+                generator.writeObjectFieldStart("args");
+                generator.writeStringField("name", thread.getValue());
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            for (SpanRecord span : spans) {
+                // Complete events, with their time and duration in microseconds
+                generator.writeStartObject();
+                generator.writeStringField("name", span.getName());
+                generator.writeStringField("cat", span.getCategory());
+                generator.writeStringField("ph", "X");
+                generator.writeNumberField("ts", span.getStartNanos() / 1000.0);
+                generator.writeNumberField("dur", span.getDurationNanos() / 1000.0);
+                generator.writeNumberField("pid", 1);
+                generator.writeNumberField("tid", span.getThreadId());
+                if (span.getArgName() != null) {
+                    generator.writeObjectFieldStart("args");
+                    generator.writeStringField(span.getArgName(), span.getArgValue());
+                    generator.writeEndObject();
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeStringField("displayTimeUnit", "ms");
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * A span of work being traced, which is recorded when it is closed.
+     */
+    public static class Span implements AutoCloseable {
+        private final Tracer tracer;
+        private final String category;
+        private final String name;
+        private final String argName;
+        private final String argValue;
+        private final long startNanos;
+        private boolean isClosed;
+
+        private Span(Tracer tracer, String category, String name, String argName, String argValue) {
+            this.tracer = tracer;
+            this.category = category;
+            this.name = name;
+            this.argName = argName;
+            this.argValue = argValue;
+            startNanos = tracer == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Ends the span and records it. Closing a span again has no effect.
+         */
+        @Override
+        public void close() {
+            long durationNanos = System.nanoTime() - startNanos;
+            if (tracer == null || isClosed) {
+                return;
+            }
+            isClosed = true;
+
+            tracer.record(category, name, argName, argValue, startNanos, durationNanos);
+        }
+    }
+
+    /**
+     * A recorded span, with its start in nanoseconds since the tracer was created. Its argument name and value are
+     * null if it was begun without an argument.
+     */
+    public static class SpanRecord {
+        private final String category;
+        private final String name;
+        private final String argName;
+        private final String argValue;
+        private final long threadId;
+        private final String threadName;
+        private final long startNanos;
+        private final long durationNanos;
+
+        /**
+         * Constructs a {@code SpanRecord} with the given details.
+         */
+        public SpanRecord(String category, String name, String argName, String argValue, long threadId,
+                String threadName, long startNanos, long durationNanos) {
+            this.category = category;
+            this.name = name;
+            this.argName = argName;
+            this.argValue = argValue;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getArgName() {
+            return argName;
+        }
+
+        public String getArgValue() {
+            return argValue;
+        }
+
+        public long getThreadId() {
+            return threadId;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for reading the address book from a data file.
+ */
+@Name("seedu.address.AddressBookLoad")
+@Label("Address Book Load")
+@Category({"MatchEstate", "Storage"})
+@Description("Reads the address book from a data file, replaying its journal if it has one")
+@StackTrace(false)
+public class AddressBookLoadEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @DataAmount
+    @Description("The size of the data file and its journal")
+    private long bytes;
+
+    @Label("Journal Replayed")
+    private boolean journalReplayed;
+
+    @Label("Persons")
+    private int persons;
+
+    @Label("Listings")
+    private int listings;
+
+    @Label("Tags")
+    private int tags;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setJournalReplayed(boolean journalReplayed) {
+        this.journalReplayed = journalReplayed;
+    }
+
+    public void setPersons(int persons) {
+        this.persons = persons;
+    }
+
+    public void setListings(int listings) {
+        this.listings = listings;
+    }
+
+    public void setTags(int tags) {
+        this.tags = tags;
+    }
+}
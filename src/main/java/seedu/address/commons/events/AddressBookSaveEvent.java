@@ -0,0 +1,52 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for writing the address book, or the changes made to it, to a data file.
+ */
+@Name("seedu.address.AddressBookSave")
+@Label("Address Book Save")
+@Category({"MatchEstate", "Storage"})
+@Description("Writes the address book, or the changes made to it, to a data file")
+@StackTrace(false)
+public class AddressBookSaveEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @DataAmount
+    @Description("The bytes written, which are only the journaled changes if the whole address book was not written")
+    private long bytes;
+
+    @Label("Persons")
+    @Description("The number of persons in the address book saved")
+    private int persons;
+
+    @Label("Listings")
+    @Description("The number of listings in the address book saved")
+    private int listings;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersons(int persons) {
+        this.persons = persons;
+    }
+
+    public void setListings(int listings) {
+        this.listings = listings;
+    }
+}
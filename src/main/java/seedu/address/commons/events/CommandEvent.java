@@ -0,0 +1,58 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a user command, from parsing it to capturing the address book for saving.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category({"MatchEstate", "Logic"})
+@Description("A user command, from parsing it to capturing the address book for saving")
+@StackTrace(false)
+public class CommandEvent extends Event {
+
+    /** The outcome of a command that executed and saved successfully. */
+    public static final String OUTCOME_SUCCESS = "success";
+
+    /** The outcome of a command that failed while executing or saving. */
+    public static final String OUTCOME_FAILURE = "failure";
+
+    /** The outcome of input that is not a valid command. */
+    public static final String OUTCOME_INVALID = "invalid";
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Outcome")
+    private String outcome;
+
+    @Label("Shown Persons")
+    @Description("The number of persons in the person list after the command")
+    private int shownPersons;
+
+    @Label("Shown Listings")
+    @Description("The number of listings in the listing list after the command")
+    private int shownListings;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void setShownPersons(int shownPersons) {
+        this.shownPersons = shownPersons;
+    }
+
+    public void setShownListings(int shownListings) {
+        this.shownListings = shownListings;
+    }
+}
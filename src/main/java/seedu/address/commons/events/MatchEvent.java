@@ -0,0 +1,51 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a match run, which examines the candidates for a match and scores those that match
+ * to rank them. Where only the best matches are wanted, the candidates are found through the model's indexes.
+ */
+@Name("seedu.address.Match")
+@Label("Match")
+@Category({"MatchEstate", "Logic"})
+@Description("Finds the candidates for a match and scores those that match to rank them")
+@StackTrace(false)
+public class MatchEvent extends Event {
+
+    @Label("Match Command")
+    private String matchCommand;
+
+    @Label("Candidates")
+    @Description("The number of candidates examined, found through the price and tag indexes for a limited match")
+    private long candidates;
+
+    @Label("Scored")
+    @Description("The number of candidates that matched and were scored")
+    private long scored;
+
+    @Label("Match Limit")
+    @Description("The number of best matches asked for, or 0 for every match")
+    private int matchLimit;
+
+    public void setMatchCommand(String matchCommand) {
+        this.matchCommand = matchCommand;
+    }
+
+    public void setCandidates(long candidates) {
+        this.candidates = candidates;
+    }
+
+    public void setScored(long scored) {
+        this.scored = scored;
+    }
+
+    public void setMatchLimit(int matchLimit) {
+        this.matchLimit = matchLimit;
+    }
+}
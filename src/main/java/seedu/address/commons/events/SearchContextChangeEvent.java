@@ -0,0 +1,41 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a change of the search context, which decides the tags and price range highlighted
+ * in the lists shown.
+ */
+@Name("seedu.address.SearchContextChange")
+@Label("Search Context Change")
+@Category({"MatchEstate", "Model"})
+@Description("Changes the search that decides the tags and price range highlighted in the lists shown")
+@StackTrace(false)
+public class SearchContextChangeEvent extends Event {
+
+    @Label("Search Type")
+    private String searchType;
+
+    @Label("Active Tags")
+    private int activeTags;
+
+    @Label("Active Price Range")
+    private String activePriceRange;
+
+    public void setSearchType(String searchType) {
+        this.searchType = searchType;
+    }
+
+    public void setActiveTags(int activeTags) {
+        this.activeTags = activeTags;
+    }
+
+    public void setActivePriceRange(String activePriceRange) {
+        this.activePriceRange = activePriceRange;
+    }
+}
@@ -6,8 +6,12 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.AllocationRecorder;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LatencyRecorder;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Tracer;
+import seedu.address.commons.events.CommandEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -30,11 +34,17 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** The name that latencies of input that fails to parse are recorded under. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    private static final long UNSAVED_EPOCH = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long lastSavedEpoch;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,27 +53,127 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        lastSavedEpoch = model.getAddressBookEpoch();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        AllocationRecorder.Measurement allocation = AllocationRecorder.COMMANDS.begin();
+        long startNanos = System.nanoTime();
+        Command command;
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_LOGIC, "parse")) {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            // Input that fails to parse is recorded under one name, so that mistyped command words add no histograms
+            LatencyRecorder.COMMANDS.record(INVALID_COMMAND_WORD, LatencyRecorder.PHASE_PARSE,
+                    System.nanoTime() - startNanos);
+            allocation.end(INVALID_COMMAND_WORD);
+            commitCommandEvent(event, INVALID_COMMAND_WORD, CommandEvent.OUTCOME_INVALID);
+            throw pe;
+        }
+        String commandWord = getCommandWord(commandText);
+        long parsedNanos = System.nanoTime();
+        LatencyRecorder.COMMANDS.record(commandWord, LatencyRecorder.PHASE_PARSE, parsedNanos - startNanos);
 
+        long executedNanos = 0;
+        boolean isExecuted = false;
+        boolean isSuccessful = false;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            CommandResult executedResult;
+            try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_LOGIC, "execute", "command", commandWord)) {
+                executedResult = command.execute(model);
+            }
+            executedNanos = System.nanoTime();
+            isExecuted = true;
+            CommandResult commandResult;
+            try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_LOGIC, "save")) {
+                executedResult.getExportFilePath().ifPresent(exportFilePath ->
+                        storage.exportInBackground(exportFilePath, executedResult.getExportWriter()));
+                commandResult = saveAddressBook(executedResult);
+            }
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            long endNanos = System.nanoTime();
+            LatencyRecorder.COMMANDS.record(commandWord, LatencyRecorder.PHASE_EXECUTE,
+                    (isExecuted ? executedNanos : endNanos) - parsedNanos);
+            if (isExecuted) {
+                LatencyRecorder.COMMANDS.record(commandWord, LatencyRecorder.PHASE_SAVE, endNanos - executedNanos);
+            }
+            LatencyRecorder.COMMANDS.record(commandWord, LatencyRecorder.PHASE_TOTAL, endNanos - startNanos);
+            allocation.end(commandWord);
+            commitCommandEvent(event, commandWord,
+                    isSuccessful ? CommandEvent.OUTCOME_SUCCESS : CommandEvent.OUTCOME_FAILURE);
+        }
+    }
+
+    /**
+     * Ends {@code event} and commits it if a flight recording is taking it, filling in its fields only then.
+     */
+    private void commitCommandEvent(CommandEvent event, String commandWord, String outcome) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        event.setCommandWord(commandWord);
+        event.setOutcome(outcome);
+        event.setShownPersons(model.getSortedFilteredPersonList().size());
+        event.setShownListings(model.getSortedFilteredListingList().size());
+        event.commit();
+    }
+
+    /**
+     * Saves the address book in the background if {@code commandResult} came from a command that changed it, and
+     * returns {@code commandResult} with any failure of an earlier background save added to its feedback.
+     *
+     * @throws CommandException if the address book could not be captured for saving.
+     */
+    private CommandResult saveAddressBook(CommandResult commandResult) throws CommandException {
+        String saveFailureMessage = null;
+        try {
+            storage.checkBackgroundSaves();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            saveFailureMessage = getSaveFailureMessage(ioe);
+            // The address book is saved again below, so that the changes that failed to be written are retried
+            lastSavedEpoch = UNSAVED_EPOCH;
+        }
+
+        long epoch = model.getAddressBookEpoch();
+        if (epoch != lastSavedEpoch) {
+            try {
+                storage.saveAddressBookInBackground(model.getAddressBook());
+                lastSavedEpoch = epoch;
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveFailureMessage(ioe), ioe);
+            }
         }
 
+        if (saveFailureMessage != null) {
+            return new CommandResult(commandResult.getFeedbackToUser() + "\n" + saveFailureMessage,
+                    commandResult.isShowHelp(), commandResult.isExit());
+        }
         return commandResult;
     }
 
+    /**
+     * Returns the command word of {@code commandText}, which has been parsed successfully.
+     */
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    private static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
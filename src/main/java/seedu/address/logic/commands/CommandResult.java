@@ -2,9 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.storage.ExportWriter;
 
 /**
  * Represents the result of a command execution.
@@ -19,6 +22,10 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The file to be exported in the background, or null if there is none. */
+    private final Path exportFilePath;
+    private final ExportWriter exportWriter;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      *
@@ -30,6 +37,21 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.exportFilePath = null;
+        this.exportWriter = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, which exports a file to
+     * {@code exportFilePath} with the content written by {@code exportWriter}. The file is written in the background
+     * after the command, so that the command does not wait for it.
+     */
+    public CommandResult(String feedbackToUser, Path exportFilePath, ExportWriter exportWriter) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.exportFilePath = requireNonNull(exportFilePath);
+        this.exportWriter = requireNonNull(exportWriter);
     }
 
     /**
@@ -52,6 +74,14 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<Path> getExportFilePath() {
+        return Optional.ofNullable(exportFilePath);
+    }
+
+    public ExportWriter getExportWriter() {
+        return exportWriter;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -66,12 +96,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(exportFilePath, otherCommandResult.exportFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, exportFilePath);
     }
 
     @Override
@@ -80,6 +111,7 @@ public class CommandResult {
                 .add("feedbackToUser", feedbackToUser)
                 .add("showHelp", showHelp)
                 .add("exit", exit)
+                .add("exportFilePath", exportFilePath)
                 .toString();
     }
 
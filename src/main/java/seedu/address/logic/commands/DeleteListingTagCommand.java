@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -61,13 +60,12 @@ public class DeleteListingTagCommand extends Command {
 
         // Modify listing and tag registry in place
         for (String tagName : tagsToDelete) {
-            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
             if (!model.hasTag(tagName)) {
                 throw new CommandException(String.format(Messages.MESSAGE_TAG_DOES_NOT_EXIST, tagName,
                         MESSAGE_USAGE));
             }
             Tag tagToRemove = model.getTag(tagName);
-            if (!listingToEdit.getTags().contains(tag)) {
+            if (!listingToEdit.getTags().contains(tagToRemove)) {
                 throw new CommandException(String.format(Messages.MESSAGE_TAG_NOT_FOUND_IN_PROPERTY, tagName,
                         MESSAGE_USAGE));
             }
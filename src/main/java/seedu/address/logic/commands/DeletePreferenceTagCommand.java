@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -75,15 +74,13 @@ public class DeletePreferenceTagCommand extends Command {
 
         Set<Tag> tags = new HashSet<>();
         for (String tagName : tagsToDelete) {
-            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-
             if (!model.hasTag(tagName)) {
                 throw new CommandException(String.format(Messages.MESSAGE_TAG_DOES_NOT_EXIST, tagName,
                         MESSAGE_USAGE));
             }
 
             Tag tagToRemove = model.getTag(tagName);
-            if (!preferenceToDelete.getTags().contains(tag)) {
+            if (!preferenceToDelete.getTags().contains(tagToRemove)) {
                 throw new CommandException(String.format(Messages.MESSAGE_TAG_NOT_FOUND_IN_PREFERENCE, tagName,
                         MESSAGE_USAGE));
             }
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.commons.events.MatchEvent;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.search.MatchEngine;
+import seedu.address.model.search.MatchTable;
+
+/**
+ * Matches every available listing to the persons whose property preferences match it, and exports the ranked
+ * matches as a CSV file next to the address book data file. The file is written in the background after the command.
+ */
+public class MatchAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "matchAll";
+
+    public static final String EXPORT_FILE_NAME = "matches.csv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Matches every available listing to persons' property preferences, "
+            + "and exports the ranked matches to " + EXPORT_FILE_NAME + " in the data folder.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d matches for %2$d available listings. Exporting to %3$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        MatchEvent event = new MatchEvent();
+        event.begin();
+        MatchEngine engine = new MatchEngine(model.getPriceIndex(), model.getTagIndex());
+        MatchTable matches = engine.matchAll(model.getAddressBook().getListingList(), ForkJoinPool.commonPool());
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setMatchCommand(COMMAND_WORD);
+            event.setCandidates(engine.getCandidateCount());
+            event.setScored(matches.getMatchCount());
+            event.commit();
+        }
+
+        // The CSV is written by the storage writer after the command, rather than on the thread running it
+        Path exportFilePath = model.getAddressBookFilePath().resolveSibling(EXPORT_FILE_NAME);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, matches.getMatchCount(), matches.getListingCount(),
+                exportFilePath), exportFilePath, matches::writeCsv);
+    }
+}
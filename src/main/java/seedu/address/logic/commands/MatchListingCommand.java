@@ -2,19 +2,31 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_LIMIT;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.events.MatchEvent;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.search.comparators.PersonListingScoreComparator;
+import seedu.address.model.search.comparators.TopMatches;
 import seedu.address.model.search.predicates.PersonMatchesPropertyPredicate;
 import seedu.address.model.search.predicates.PropertyPreferencesMatchesListingPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Matches a {@code Listing} identified using it's displayed index in the address book to
@@ -27,12 +39,14 @@ public class MatchListingCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Matches the listing identified by the index number used in the displayed listing list"
             + " to a Persons' property preferences.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_MATCH_LIMIT + "COUNT (the number of best matches to show)]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_MATCH_LIMIT + "10";
 
     public static final String MESSAGE_MATCH_LISTING_SUCCESS = "Matched Listing: %1$s";
 
     private final Index targetIndex;
+    private final Integer matchLimit;
 
     /**
      * Creates a {@code MatchListingCommand} to match the specified {@code Listing}
@@ -41,7 +55,19 @@ public class MatchListingCommand extends Command {
      * @param targetIndex of the listing in the filtered listing list to delete
      */
     public MatchListingCommand(Index targetIndex) {
+        this(targetIndex, null);
+    }
+
+    /**
+     * Creates a {@code MatchListingCommand} to match the specified {@code Listing}
+     * to {@code Person}s' {@code PropertyPreference}s, showing only the best {@code matchLimit} matches.
+     *
+     * @param targetIndex of the listing in the filtered listing list to match.
+     * @param matchLimit  the number of best matches to show, or null to show every match.
+     */
+    public MatchListingCommand(Index targetIndex, Integer matchLimit) {
         this.targetIndex = targetIndex;
+        this.matchLimit = matchLimit;
     }
 
     @Override
@@ -69,8 +95,83 @@ public class MatchListingCommand extends Command {
                 SearchType.PERSON,
                 new PropertyPreferencesMatchesListingPredicate(listingToMatch));
 
-        model.updateFilteredPersonList(new PersonMatchesPropertyPredicate(listingToMatch));
-        model.updateSortedFilteredPersonList(new PersonListingScoreComparator(listingToMatch));
+        MatchEvent event = new MatchEvent();
+        event.begin();
+        if (matchLimit == null) {
+            Set<Person> allMatches = selectAllMatches(model, listingToMatch, event);
+            model.updateFilteredPersonList(allMatches::contains);
+        } else {
+            Set<Person> bestMatches = selectBestMatches(model, listingToMatch, matchLimit, event);
+            model.updateFilteredPersonList(bestMatches::contains);
+        }
+
+        // Score the matched persons once, rather than on every comparison made while sorting them
+        model.updateSortedFilteredPersonList(new PersonListingScoreComparator(listingToMatch,
+                model.getSortedFilteredPersonList()));
+        if (matchLimit == null) {
+            // Every match is shown, and scored once for sorting
+            event.setScored(model.getSortedFilteredPersonList().size());
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setMatchCommand(COMMAND_WORD);
+            event.setMatchLimit(matchLimit == null ? 0 : matchLimit);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns every person that matches {@code listingToMatch}, as found through the model's price and tag indexes,
+     * so that persons who share neither a price nor a tag with the listing are never examined.
+     */
+    private static Set<Person> selectAllMatches(Model model, Listing listingToMatch, MatchEvent event) {
+        Set<Person> allMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachMatch(model, listingToMatch, allMatches::add, event);
+        return allMatches;
+    }
+
+    /**
+     * Returns the {@code limit} persons that best match {@code listingToMatch}.
+     * The matches are fed straight into a bounded heap, so that only {@code limit} of them are held at any time.
+     * The number of matches scored is set on {@code event}.
+     */
+    private static Set<Person> selectBestMatches(Model model, Listing listingToMatch, int limit, MatchEvent event) {
+        TopMatches<Person> topMatches = new TopMatches<>(limit,
+                person -> PersonListingScoreComparator.score(listingToMatch, person),
+                PersonListingScoreComparator.TIE_BREAKER);
+
+        // A person may be found once per matching preference and tag, which TopMatches ignores after the first
+        forEachMatch(model, listingToMatch, topMatches::offer, event);
+        event.setScored(topMatches.getScoredCount());
+
+        Set<Person> bestMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        bestMatches.addAll(topMatches.getMatches());
+        return bestMatches;
+    }
+
+    /**
+     * Passes every person that matches {@code listingToMatch} to {@code action}, checking only the persons with a
+     * property preference whose price range overlaps, or which shares a tag with, the listing, as found through the
+     * model's price and tag indexes. Every match is among them, but a person may be passed more than once.
+     * The number of candidates checked is set on {@code event}.
+     */
+    private static void forEachMatch(Model model, Listing listingToMatch, Consumer<Person> action, MatchEvent event) {
+        Set<String> tagNames = listingToMatch.getTags().stream()
+                .map(Tag::getTagName)
+                .collect(Collectors.toSet());
+        PersonMatchesPropertyPredicate matches = new PersonMatchesPropertyPredicate(listingToMatch);
+
+        LongAdder candidateCount = new LongAdder();
+        Consumer<Person> acceptIfMatches = person -> {
+            candidateCount.increment();
+            if (matches.test(person)) {
+                action.accept(person);
+            }
+        };
+        model.getPriceIndex().forEachPersonWithPreferenceOverlapping(listingToMatch.getPriceRange(), acceptIfMatches);
+        model.getTagIndex().forEachPersonWithPreferenceWithAnyTag(tagNames, acceptIfMatches);
+        event.setCandidates(candidateCount.sum());
     }
 
     @Override
@@ -85,13 +186,15 @@ public class MatchListingCommand extends Command {
         }
 
         MatchListingCommand otherDeleteCommand = (MatchListingCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndex.equals(otherDeleteCommand.targetIndex)
+                && Objects.equals(matchLimit, otherDeleteCommand.matchLimit);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("targetIndex", targetIndex)
+                .add("matchLimit", matchLimit)
                 .toString();
     }
 }
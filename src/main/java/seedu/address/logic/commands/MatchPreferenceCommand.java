@@ -2,20 +2,32 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_LIMIT;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.events.MatchEvent;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.search.comparators.ListingPreferenceScoreComparator;
+import seedu.address.model.search.comparators.TopMatches;
 import seedu.address.model.search.predicates.ListingMatchesPreferencePredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Find matches for @{code Person}'s {@code PropertyPreference} based on tags and attributes (i.e. within price range),
@@ -28,14 +40,16 @@ public class MatchPreferenceCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Find listings that match a person's property preference identified by index number used "
             + "in the displayed person and preference list.\n"
-            + "Parameters: PERSON_INDEX (must be a positive integer) PREFERENCE_INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1 2";
+            + "Parameters: PERSON_INDEX (must be a positive integer) PREFERENCE_INDEX (must be a positive integer) "
+            + "[" + PREFIX_MATCH_LIMIT + "COUNT (the number of best matches to show)]\n"
+            + "Example: " + COMMAND_WORD + " 1 2 " + PREFIX_MATCH_LIMIT + "10";
 
     public static final String MESSAGE_MATCH_PERSON_SUCCESS = "Matched Listings for %1$s's Preference - "
             + "Price Range: %2$s, Tags: %3$s";
 
     private final Index targetPersonIndex;
     private final Index targetPreferenceIndex;
+    private final Integer matchLimit;
 
     /**
      * Creates a {@code MatchPreferenceCommand} to match {@code Listing}s from the specified {@code PropertyPreference}.
@@ -44,8 +58,21 @@ public class MatchPreferenceCommand extends Command {
      * @param targetPreferenceIndex Index of the preference in the person to delete.
      */
     public MatchPreferenceCommand(Index targetPersonIndex, Index targetPreferenceIndex) {
+        this(targetPersonIndex, targetPreferenceIndex, null);
+    }
+
+    /**
+     * Creates a {@code MatchPreferenceCommand} to match {@code Listing}s from the specified {@code PropertyPreference},
+     * showing only the best {@code matchLimit} matches.
+     *
+     * @param targetPersonIndex     Index of the person in the filtered person list to delete the preference from.
+     * @param targetPreferenceIndex Index of the preference in the person to delete.
+     * @param matchLimit            Number of best matches to show, or null to show every match.
+     */
+    public MatchPreferenceCommand(Index targetPersonIndex, Index targetPreferenceIndex, Integer matchLimit) {
         this.targetPersonIndex = targetPersonIndex;
         this.targetPreferenceIndex = targetPreferenceIndex;
+        this.matchLimit = matchLimit;
     }
 
     @Override
@@ -92,8 +119,86 @@ public class MatchPreferenceCommand extends Command {
                 SearchType.LISTING,
                 Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
 
-        model.updateFilteredListingList(new ListingMatchesPreferencePredicate(preferenceToMatch));
-        model.updateSortedFilteredListingList(new ListingPreferenceScoreComparator(preferenceToMatch));
+        MatchEvent event = new MatchEvent();
+        event.begin();
+        if (matchLimit == null) {
+            Set<Listing> allMatches = selectAllMatches(model, preferenceToMatch, event);
+            model.updateFilteredListingList(allMatches::contains);
+        } else {
+            Set<Listing> bestMatches = selectBestMatches(model, preferenceToMatch, matchLimit, event);
+            model.updateFilteredListingList(bestMatches::contains);
+        }
+
+        // Score the matched listings once, rather than on every comparison made while sorting them
+        model.updateSortedFilteredListingList(new ListingPreferenceScoreComparator(preferenceToMatch,
+                model.getSortedFilteredListingList()));
+        if (matchLimit == null) {
+            // Every match is shown, and scored once for sorting
+            event.setScored(model.getSortedFilteredListingList().size());
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setMatchCommand(COMMAND_WORD);
+            event.setMatchLimit(matchLimit == null ? 0 : matchLimit);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns every listing that matches {@code preferenceToMatch}, as found through the model's price and tag indexes,
+     * so that listings which share neither a price nor a tag with the preference are never examined.
+     */
+    private static Set<Listing> selectAllMatches(Model model, PropertyPreference preferenceToMatch,
+                                                 MatchEvent event) {
+        Set<Listing> allMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachMatch(model, preferenceToMatch, allMatches::add, event);
+        return allMatches;
+    }
+
+    /**
+     * Returns the {@code limit} listings that best match {@code preferenceToMatch}.
+     * The matches are fed straight into a bounded heap, so that only {@code limit} of them are held at any time.
+     * The number of matches scored is set on {@code event}.
+     */
+    private static Set<Listing> selectBestMatches(Model model, PropertyPreference preferenceToMatch, int limit,
+                                                  MatchEvent event) {
+        TopMatches<Listing> topMatches = new TopMatches<>(limit,
+                listing -> ListingPreferenceScoreComparator.score(preferenceToMatch, listing),
+                ListingPreferenceScoreComparator.TIE_BREAKER);
+
+        // A listing may be found once by price and once per matching tag, which TopMatches ignores after the first
+        forEachMatch(model, preferenceToMatch, topMatches::offer, event);
+        event.setScored(topMatches.getScoredCount());
+
+        Set<Listing> bestMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        bestMatches.addAll(topMatches.getMatches());
+        return bestMatches;
+    }
+
+    /**
+     * Passes every listing that matches {@code preferenceToMatch} to {@code action}, checking only the listings whose
+     * price range overlaps, or which share a tag with, the preference, as found through the model's price and tag
+     * indexes. Every match is among them, but a listing may be passed more than once.
+     * The number of candidates checked is set on {@code event}.
+     */
+    private static void forEachMatch(Model model, PropertyPreference preferenceToMatch, Consumer<Listing> action,
+                                     MatchEvent event) {
+        Set<String> tagNames = preferenceToMatch.getTags().stream()
+                .map(Tag::getTagName)
+                .collect(Collectors.toSet());
+        ListingMatchesPreferencePredicate matches = new ListingMatchesPreferencePredicate(preferenceToMatch);
+
+        LongAdder candidateCount = new LongAdder();
+        Consumer<Listing> acceptIfMatches = listing -> {
+            candidateCount.increment();
+            if (matches.test(listing)) {
+                action.accept(listing);
+            }
+        };
+        model.getPriceIndex().forEachListingOverlapping(preferenceToMatch.getPriceRange(), acceptIfMatches);
+        model.getTagIndex().forEachListingWithAnyTag(tagNames, acceptIfMatches);
+        event.setCandidates(candidateCount.sum());
     }
 
     @Override
@@ -109,7 +214,8 @@ public class MatchPreferenceCommand extends Command {
 
         MatchPreferenceCommand otherDeleteCommand = (MatchPreferenceCommand) other;
         return targetPersonIndex.equals(otherDeleteCommand.targetPersonIndex)
-                && targetPreferenceIndex.equals(otherDeleteCommand.targetPreferenceIndex);
+                && targetPreferenceIndex.equals(otherDeleteCommand.targetPreferenceIndex)
+                && Objects.equals(matchLimit, otherDeleteCommand.matchLimit);
     }
 
     @Override
@@ -117,6 +223,7 @@ public class MatchPreferenceCommand extends Command {
         return new ToStringBuilder(this)
                 .add("targetPersonIndex", targetPersonIndex)
                 .add("targetPreferenceIndex", targetPreferenceIndex)
+                .add("matchLimit", matchLimit)
                 .toString();
     }
 }
@@ -66,7 +66,8 @@ public class SearchListingByTagCommand extends Command {
                 SearchType.LISTING,
                 Model.PREDICATE_SHOW_ALL_PROPERTY_PREFERENCES);
 
-        ListingContainsAllTagsPredicate predicate = new ListingContainsAllTagsPredicate(tagsToSearch);
+        ListingContainsAllTagsPredicate predicate = new ListingContainsAllTagsPredicate(tagsToSearch,
+                model.getTagIndex().getListingsWithAllTags(tagsToSearch));
         model.updateFilteredListingList(predicate);
 
         List<Listing> filteredListings = model.getSortedFilteredListingList();
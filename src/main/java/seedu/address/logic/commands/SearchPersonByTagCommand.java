@@ -66,7 +66,8 @@ public class SearchPersonByTagCommand extends Command {
                 SearchType.PERSON,
                 new PropertyPreferencesContainAllActiveSearchTagsPredicate(activeTags));
 
-        model.updateFilteredPersonList(new PersonPropertyPreferencesContainAllTagsPredicate(tagsToSearch));
+        model.updateFilteredPersonList(new PersonPropertyPreferencesContainAllTagsPredicate(tagsToSearch,
+                model.getTagIndex().getPersonsWithPreferenceWithAllTags(tagsToSearch)));
         List<Person> filteredPersons = model.getSortedFilteredPersonList();
 
         if (filteredPersons.isEmpty()) {
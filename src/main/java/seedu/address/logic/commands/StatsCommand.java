@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.AllocationRecorder;
+import seedu.address.commons.core.LatencyRecorder;
+import seedu.address.commons.core.PhaseTimer;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Shows performance statistics of the running app.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows performance statistics of the app.\n"
+            + "Shows how long commands took if no section is given.\n"
+            + "Parameters: [startup|memory]\n"
+            + "Example: " + COMMAND_WORD + " startup";
+
+    /**
+     * The statistics a {@code StatsCommand} can show.
+     */
+    public enum Section {
+        /** How long each phase of the commands executed so far took, by command word. */
+        COMMANDS,
+        /** How long each phase of starting the app took. */
+        STARTUP,
+        /** How much memory the commands executed so far allocated, and the garbage collections they caused. */
+        MEMORY
+    }
+
+    private final Section section;
+
+    /**
+     * Creates a StatsCommand to show the statistics in {@code section}.
+     */
+    public StatsCommand(Section section) {
+        requireNonNull(section);
+        this.section = section;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        switch (section) {
+        case COMMANDS:
+            return new CommandResult(LatencyRecorder.COMMANDS.getReport());
+        case STARTUP:
+            return new CommandResult(PhaseTimer.STARTUP.getReport());
+        case MEMORY:
+            return new CommandResult(AllocationRecorder.COMMANDS.getReport());
+        default:
+            throw new AssertionError("Unknown statistics section: " + section);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return section == otherStatsCommand.section;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("section", section)
+                .toString();
+    }
+}
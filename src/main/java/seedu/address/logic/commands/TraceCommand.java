@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.Tracer;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Exports the most recent trace spans of the app to a Chrome trace file beside the data file.
+ */
+public class TraceCommand extends Command {
+
+    public static final String COMMAND_WORD = "trace";
+
+    public static final String TRACE_FILE_NAME = "trace.json";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the most recent work of the app as a timeline "
+            + "to " + TRACE_FILE_NAME + " beside the data file, to be opened in chrome://tracing or Perfetto.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d trace spans to %2$s";
+
+    public static final String MESSAGE_FAILURE = "Could not export trace spans to %1$s: %2$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path traceFilePath = model.getAddressBookFilePath().resolveSibling(TRACE_FILE_NAME);
+        int spanCount = Tracer.APP.getSpans().size();
+        try {
+            Tracer.APP.exportChromeTrace(traceFilePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, traceFilePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, spanCount, traceFilePath));
+    }
+}
@@ -32,6 +32,7 @@ import seedu.address.logic.commands.ListPersonCommand;
 import seedu.address.logic.commands.ListTagCommand;
 import seedu.address.logic.commands.MarkAvailableCommand;
 import seedu.address.logic.commands.MarkUnavailableCommand;
+import seedu.address.logic.commands.MatchAllCommand;
 import seedu.address.logic.commands.MatchListingCommand;
 import seedu.address.logic.commands.MatchPreferenceCommand;
 import seedu.address.logic.commands.OverwriteListingTagCommand;
@@ -40,6 +41,8 @@ import seedu.address.logic.commands.SearchListingByTagCommand;
 import seedu.address.logic.commands.SearchOwnerListingCommand;
 import seedu.address.logic.commands.SearchPersonByName;
 import seedu.address.logic.commands.SearchPersonByTagCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TraceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -115,6 +118,9 @@ public class AddressBookParser {
         case MatchListingCommand.COMMAND_WORD:
             return new MatchListingCommandParser().parse(arguments);
 
+        case MatchAllCommand.COMMAND_WORD:
+            return new MatchAllCommand();
+
         case MatchPreferenceCommand.COMMAND_WORD:
             return new MatchPreferenceCommandParser().parse(arguments);
 
@@ -169,6 +175,12 @@ public class AddressBookParser {
         case SearchListingByTagCommand.COMMAND_WORD:
             return new SearchListingByTagCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case TraceCommand.COMMAND_WORD:
+            return new TraceCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
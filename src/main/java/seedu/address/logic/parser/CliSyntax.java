@@ -18,6 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_LOWER_BOUND_PRICE = new Prefix("lbp/");
     public static final Prefix PREFIX_UPPER_BOUND_PRICE = new Prefix("ubp/");
     public static final Prefix PREFIX_PROPERTY_NAME = new Prefix("n/");
+    public static final Prefix PREFIX_MATCH_LIMIT = new Prefix("k/");
 
 
 }
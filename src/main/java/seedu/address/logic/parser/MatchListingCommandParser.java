@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_LIMIT;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.MatchListingCommand;
@@ -20,8 +21,12 @@ public class MatchListingCommandParser implements Parser<MatchListingCommand> {
      */
     public MatchListingCommand parse(String args) throws ParseException {
         checkCommandFormat(args);
-        Index index = ParserUtil.parseIndex(args);
-        return new MatchListingCommand(index);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCH_LIMIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MATCH_LIMIT);
+
+        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        Integer matchLimit = ParserUtil.parseMatchLimit(argMultimap.getValue(PREFIX_MATCH_LIMIT).orElse(null));
+        return new MatchListingCommand(index, matchLimit);
     }
 
     private static void checkCommandFormat(String args) throws ParseException {
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
 import static seedu.address.logic.Messages.MESSAGE_EXPECTED_TWO_INDICES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_LIMIT;
 
 import java.util.List;
 
@@ -22,12 +23,14 @@ public class MatchPreferenceCommandParser implements Parser<MatchPreferenceComma
      * @throws ParseException if the user input does not conform the expected format
      */
     public MatchPreferenceCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MATCH_LIMIT);
 
         checkCommandFormat(argMultimap, args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MATCH_LIMIT);
 
-        List<Index> multipleIndices = ParserUtil.parseMultipleIndices(args);
-        return new MatchPreferenceCommand(multipleIndices.get(0), multipleIndices.get(1));
+        List<Index> multipleIndices = ParserUtil.parseMultipleIndices(argMultimap.getPreamble());
+        Integer matchLimit = ParserUtil.parseMatchLimit(argMultimap.getValue(PREFIX_MATCH_LIMIT).orElse(null));
+        return new MatchPreferenceCommand(multipleIndices.get(0), multipleIndices.get(1), matchLimit);
     }
 
     private static void checkCommandFormat(ArgumentMultimap argMultimap, String args) throws ParseException {
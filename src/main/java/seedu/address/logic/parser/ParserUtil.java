@@ -19,6 +19,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.price.Price;
+import seedu.address.model.search.comparators.TopMatches;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -59,6 +60,25 @@ public class ParserUtil {
         return indexList;
     }
 
+    /**
+     * Parses a {@code String matchLimit} into the number of matches to show.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @return the number of matches to show, or null if {@code matchLimit} is null.
+     * @throws ParseException if the given {@code matchLimit} is not a positive integer.
+     */
+    public static Integer parseMatchLimit(String matchLimit) throws ParseException {
+        if (matchLimit == null) {
+            return null;
+        }
+
+        String trimmedMatchLimit = matchLimit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedMatchLimit)) {
+            throw new ParseException(TopMatches.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedMatchLimit);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code StatsCommand} object.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     *
+     * @param args arguments to be parsed.
+     * @throws ParseException if the user input does not name a section of statistics.
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        String section = args.trim();
+        if (section.isEmpty()) {
+            return new StatsCommand(StatsCommand.Section.COMMANDS);
+        }
+        if (section.equalsIgnoreCase(StatsCommand.Section.STARTUP.name())) {
+            return new StatsCommand(StatsCommand.Section.STARTUP);
+        }
+        if (section.equalsIgnoreCase(StatsCommand.Section.MEMORY.name())) {
+            return new StatsCommand(StatsCommand.Section.MEMORY);
+        }
+
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.commons.util.ToStringBuilder;
@@ -25,6 +26,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueListingList listings;
     private final UniqueTagMap tags;
+    private int bulkUpdateDepth;
+    private long epoch;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +40,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         listings = new UniqueListingList();
         tags = new UniqueTagMap();
+
+        // Every change to the address book, including an element edited in place and then set over itself, reaches
+        // these views, so counting their changes covers all mutating paths.
+        persons.asUnmodifiableObservableList().addListener((InvalidationListener) observable -> epoch++);
+        listings.asUnmodifiableObservableList().addListener((InvalidationListener) observable -> epoch++);
+        tags.asUnmodifiableObservableMap().addListener((InvalidationListener) observable -> epoch++);
     }
 
     public AddressBook() {
@@ -101,6 +110,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.asUnmodifiableObservableMap();
     }
 
+    /**
+     * Returns the tag with the given tag name, compared case-insensitively.
+     * Unlike {@link #getTagMap()}, this reflects changes made during a bulk update.
+     *
+     * @param tagName The name of the tag, which must exist in the address book.
+     * @return The tag with the given tag name.
+     */
+    public Tag getTag(String tagName) {
+        return tags.get(tagName);
+    }
+
     /**
      * Returns an unmodifiable view of the listing list.
      *
@@ -128,9 +148,49 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setListings(newData.getListingList());
-        setTags(newData.getTagMap().values().stream().toList());
+        beginBulkUpdate();
+        try {
+            setPersons(newData.getPersonList());
+            setListings(newData.getListingList());
+            setTags(newData.getTagMap().values().stream().toList());
+        } finally {
+            endBulkUpdate();
+        }
+    }
+
+    /**
+     * Starts a bulk update, during which changes to this {@code AddressBook} are made without notifying the observers
+     * of its person list, listing list and tag map. Those views do not reflect the changes until
+     * {@link #endBulkUpdate()} is called, so reads in the meantime should go through the methods of this class.
+     * Bulk updates may be nested, in which case the changes are published when the outermost one ends.
+     */
+    public void beginBulkUpdate() {
+        if (bulkUpdateDepth++ == 0) {
+            persons.beginBulkUpdate();
+            listings.beginBulkUpdate();
+            tags.beginBulkUpdate();
+        }
+    }
+
+    /**
+     * Ends the bulk update started by the matching call to {@link #beginBulkUpdate()}. Once the outermost bulk update
+     * ends, every change made during it is published to the person list and listing list as a single change each.
+     */
+    public void endBulkUpdate() {
+        assert bulkUpdateDepth > 0 : "No bulk update is in progress";
+        if (--bulkUpdateDepth == 0) {
+            persons.endBulkUpdate();
+            listings.endBulkUpdate();
+            tags.endBulkUpdate();
+        }
+    }
+
+    /**
+     * Returns the mutation epoch of this {@code AddressBook}, which is incremented by every change to its persons,
+     * listings or tags. Changes made during a bulk update are counted when the outermost bulk update ends.
+     */
+    public long getEpoch() {
+        return epoch;
     }
 
     //// person-level operations
@@ -204,9 +264,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTag(String tagName) {
         requireNonNull(tagName);
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-        if (!tags.contains(tag)) {
-            this.tags.add(tag);
+        if (!tags.containsTagName(tagName)) {
+            this.tags.add(new Tag(tagName, new ArrayList<>(), new ArrayList<>()));
         }
     }
 
@@ -230,9 +289,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasTag(String tagName) {
         requireNonNull(tagName);
-
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-        return tags.contains(tag);
+        return tags.containsTagName(tagName);
     }
 
     /**
@@ -244,8 +301,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean hasTags(Set<String> tagNames) {
         requireNonNull(tagNames);
         for (String tagName : tagNames) {
-            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-            if (!this.tags.contains(tag)) {
+            if (!this.tags.containsTagName(tagName)) {
                 return false;
             }
         }
@@ -261,8 +317,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public boolean hasNewTags(Set<String> tagNames) {
         requireNonNull(tagNames);
         for (String tagName : tagNames) {
-            Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
-            if (this.tags.contains(tag)) {
+            if (this.tags.containsTagName(tagName)) {
                 return true;
             }
         }
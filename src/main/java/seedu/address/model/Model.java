@@ -11,10 +11,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceIndex;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * The API of the Model component.
@@ -90,6 +92,12 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the mutation epoch of the address book, which changes whenever the address book does.
+     * Two reads that return the same epoch saw the same address book data.
+     */
+    long getAddressBookEpoch();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -139,6 +147,16 @@ public interface Model {
      */
     ObservableMap<String, Tag> getTagMap();
 
+    /**
+     * Returns the inverted index from tags to the listings and property preferences that carry them.
+     */
+    TagIndex getTagIndex();
+
+    /**
+     * Returns the index of the price ranges of all listings and property preferences.
+     */
+    PriceIndex getPriceIndex();
+
     /**
      * Returns an unmodifiable view of the filtered tag list
      */
@@ -17,13 +17,16 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Tracer;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceIndex;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 
 /**
@@ -46,6 +49,8 @@ public class ModelManager implements Model {
 
     // Tag map and observable list
     private final ObservableMap<String, Tag> tagMap;
+    private final TagIndex tagIndex;
+    private final PriceIndex priceIndex;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -68,6 +73,8 @@ public class ModelManager implements Model {
         ObservableList<Tag> tagObservableList = createObservableTagList();
         this.filteredTags = new FilteredList<>(tagObservableList);
         this.sortedFilteredTags = new SortedList<>(this.filteredTags);
+        this.tagIndex = new TagIndex(this.addressBook.getListingList(), this.addressBook.getPersonList());
+        this.priceIndex = new PriceIndex(this.addressBook.getListingList(), this.addressBook.getPersonList());
 
         resetAllFilters();
     }
@@ -166,6 +173,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookEpoch() {
+        return addressBook.getEpoch();
+    }
+
     // Person-related operations
     @Override
     public boolean hasPerson(Person person) {
@@ -292,6 +304,16 @@ public class ModelManager implements Model {
         return tagMap;
     }
 
+    @Override
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    @Override
+    public PriceIndex getPriceIndex() {
+        return priceIndex;
+    }
+
     //=========== Search Operations ===========================================================
 
     @Override
@@ -316,36 +338,46 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate.equals(filteredPersons.getPredicate())
-                ? PREDICATE_SHOW_ALL_PERSONS : predicate);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_MODEL, "filter persons")) {
+            filteredPersons.setPredicate(predicate.equals(filteredPersons.getPredicate())
+                    ? PREDICATE_SHOW_ALL_PERSONS : predicate);
+        }
     }
 
     @Override
     public void updateSortedFilteredPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        sortedFilteredPersons.setComparator(comparator.equals(sortedFilteredPersons.getComparator())
-                ? COMPARATOR_SHOW_ALL_PERSONS : comparator);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_MODEL, "sort persons")) {
+            sortedFilteredPersons.setComparator(comparator.equals(sortedFilteredPersons.getComparator())
+                    ? COMPARATOR_SHOW_ALL_PERSONS : comparator);
+        }
     }
 
     @Override
     public void updateFilteredListingList(Predicate<Listing> predicate) {
         requireNonNull(predicate);
-        filteredListings.setPredicate(predicate.equals(filteredListings.getPredicate())
-                ? PREDICATE_SHOW_ALL_LISTINGS : predicate);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_MODEL, "filter listings")) {
+            filteredListings.setPredicate(predicate.equals(filteredListings.getPredicate())
+                    ? PREDICATE_SHOW_ALL_LISTINGS : predicate);
+        }
     }
 
     @Override
     public void updateSortedFilteredListingList(Comparator<Listing> comparator) {
         requireNonNull(comparator);
-        sortedFilteredListings.setComparator(comparator.equals(sortedFilteredListings.getComparator())
-                ? COMPARATOR_SHOW_ALL_LISTINGS : comparator);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_MODEL, "sort listings")) {
+            sortedFilteredListings.setComparator(comparator.equals(sortedFilteredListings.getComparator())
+                    ? COMPARATOR_SHOW_ALL_LISTINGS : comparator);
+        }
     }
 
     @Override
     public void updateFilteredTagList(Predicate<Tag> predicate) {
         requireNonNull(predicate);
-        filteredTags.setPredicate(predicate.equals(filteredTags.getPredicate())
-                ? PREDICATE_SHOW_ALL_TAGS : predicate);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_MODEL, "filter tags")) {
+            filteredTags.setPredicate(predicate.equals(filteredTags.getPredicate())
+                    ? PREDICATE_SHOW_ALL_TAGS : predicate);
+        }
     }
 
     //=========== Utility Methods ============================================================
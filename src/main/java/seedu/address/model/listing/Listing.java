@@ -5,7 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -14,6 +13,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Listing in the real estate system.
@@ -32,7 +32,7 @@ public class Listing {
     private final PropertyName propertyName;
 
     // Associations
-    private final Set<Tag> tags = new HashSet<>();
+    private TagSet tags;
     private final List<Person> owners = new ArrayList<>();
 
     // Status field
@@ -57,7 +57,7 @@ public class Listing {
         this.houseNumber = null;
         this.priceRange = priceRange;
         this.propertyName = null;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -81,7 +81,7 @@ public class Listing {
         this.houseNumber = houseNumber;
         this.priceRange = priceRange;
         this.propertyName = null;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -106,7 +106,7 @@ public class Listing {
         this.houseNumber = null;
         this.priceRange = priceRange;
         this.propertyName = propertyName;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -132,7 +132,7 @@ public class Listing {
         this.houseNumber = houseNumber;
         this.priceRange = priceRange;
         this.propertyName = propertyName;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.owners.addAll(owners);
         this.isAvailable = isAvailable;
     }
@@ -206,8 +206,8 @@ public class Listing {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -217,7 +217,7 @@ public class Listing {
      */
     public void addTag(Tag toAdd) {
         requireNonNull(toAdd);
-        this.tags.add(toAdd);
+        this.tags = tags.with(toAdd);
     }
 
     /**
@@ -227,7 +227,7 @@ public class Listing {
      */
     public void removeTag(Tag toDelete) {
         requireNonNull(toDelete);
-        this.tags.remove(toDelete);
+        this.tags = tags.without(toDelete);
     }
 
     /**
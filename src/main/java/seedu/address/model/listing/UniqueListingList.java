@@ -3,8 +3,12 @@ package seedu.address.model.listing;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,9 @@ import seedu.address.model.listing.exceptions.ListingNotFoundException;
  * updated is unique in terms of identity in the UniqueListingList. However, the removal of a listing uses
  * Listing#equals(Object) so as to ensure that the person with exactly the same fields will be removed.
  * Supports a minimal set of list operations.
+ * The position of every listing is also indexed by its postal code, unit number and house number, the identity
+ * fields used by {@code Listing#isSameListing(Listing)}, so that identity checks and position lookups do not scan
+ * the list.
  *
  * @see Listing#isSameListing(Listing)
  */
@@ -26,6 +33,9 @@ public class UniqueListingList implements Iterable<Listing> {
     private final ObservableList<Listing> internalList = FXCollections.observableArrayList();
     private final ObservableList<Listing> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The list that changes are made to, which is a plain copy of internalList during a bulk update
+    private List<Listing> contents = internalList;
+    private final Map<IdentityKey, Integer> positionsByIdentity = new HashMap<>();
 
     /**
      * Checks if the list contains an equivalent listing as the given argument.
@@ -35,7 +45,7 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public boolean contains(Listing toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameListing);
+        return positionsByIdentity.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -50,7 +60,8 @@ public class UniqueListingList implements Iterable<Listing> {
         if (contains(toAdd)) {
             throw new DuplicateListingException();
         }
-        internalList.add(toAdd);
+        positionsByIdentity.put(new IdentityKey(toAdd), contents.size());
+        contents.add(toAdd);
     }
 
     /**
@@ -65,16 +76,20 @@ public class UniqueListingList implements Iterable<Listing> {
     public void setListing(Listing target, Listing editedListing) {
         requireAllNonNull(target, editedListing);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ListingNotFoundException();
         }
 
-        if (!target.isSameListing(editedListing) && contains(editedListing)) {
-            throw new DuplicateListingException();
+        if (!target.isSameListing(editedListing)) {
+            if (contains(editedListing)) {
+                throw new DuplicateListingException();
+            }
+            positionsByIdentity.remove(new IdentityKey(target));
+            positionsByIdentity.put(new IdentityKey(editedListing), index);
         }
 
-        internalList.set(index, editedListing);
+        contents.set(index, editedListing);
     }
 
     /**
@@ -86,9 +101,16 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void remove(Listing toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ListingNotFoundException();
         }
+
+        contents.remove(index);
+        positionsByIdentity.remove(new IdentityKey(toRemove));
+        for (int i = index; i < contents.size(); i++) {
+            positionsByIdentity.put(new IdentityKey(contents.get(i)), i);
+        }
     }
 
     /**
@@ -98,7 +120,9 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void setListings(UniqueListingList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        positionsByIdentity.clear();
+        positionsByIdentity.putAll(replacement.positionsByIdentity);
+        replaceContents(replacement.contents);
     }
 
     /**
@@ -109,11 +133,33 @@ public class UniqueListingList implements Iterable<Listing> {
      */
     public void setListings(List<Listing> listings) {
         requireAllNonNull(listings);
-        if (!listingsAreUnique(listings)) {
+        Map<IdentityKey, Integer> replacementPositions = indexByIdentity(listings);
+        if (replacementPositions == null) {
             throw new DuplicateListingException();
         }
 
-        internalList.setAll(listings);
+        positionsByIdentity.clear();
+        positionsByIdentity.putAll(replacementPositions);
+        replaceContents(listings);
+    }
+
+    /**
+     * Starts a bulk update, during which changes to this list are not published to its observable view.
+     * Bulk updates cannot be nested.
+     */
+    public void beginBulkUpdate() {
+        assert contents == internalList : "Bulk updates cannot be nested";
+        contents = new ArrayList<>(internalList);
+    }
+
+    /**
+     * Ends the bulk update in progress, publishing every change made since it began to the observable view as a
+     * single change.
+     */
+    public void endBulkUpdate() {
+        assert contents != internalList : "No bulk update is in progress";
+        internalList.setAll(contents);
+        contents = internalList;
     }
 
     /**
@@ -127,7 +173,7 @@ public class UniqueListingList implements Iterable<Listing> {
 
     @Override
     public Iterator<Listing> iterator() {
-        return internalList.iterator();
+        return contents.iterator();
     }
 
     @Override
@@ -142,32 +188,92 @@ public class UniqueListingList implements Iterable<Listing> {
         }
 
         UniqueListingList otherUniqueListingList = (UniqueListingList) other;
-        return internalList.equals(otherUniqueListingList.internalList);
+        return contents.equals(otherUniqueListingList.contents);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return contents.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return contents.toString();
+    }
+
+    /**
+     * Finds the position of the listing equal to {@code toFind}.
+     * Only the listing sharing the identity of {@code toFind} can be equal to it, so a single lookup suffices.
+     *
+     * @return the position of the listing, or -1 if there is no such listing.
+     */
+    private int indexOf(Listing toFind) {
+        Integer index = positionsByIdentity.get(new IdentityKey(toFind));
+        if (index == null || !contents.get(index).equals(toFind)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
-     * Checks if {@code listings} contains only unique listings.
+     * Indexes the positions of {@code listings} by their identity fields.
      *
-     * @return true if {@code listings} contains only unique listings. false otherwise.
+     * @return the positions keyed by identity, or null if {@code listings} contains two listings with the same
+     *         identity.
      */
-    private boolean listingsAreUnique(List<Listing> listings) {
-        for (int i = 0; i < listings.size() - 1; i++) {
-            for (int j = i + 1; j < listings.size(); j++) {
-                if (listings.get(i).isSameListing(listings.get(j))) {
-                    return false;
-                }
+    private Map<IdentityKey, Integer> indexByIdentity(List<Listing> listings) {
+        Map<IdentityKey, Integer> positions = new HashMap<>();
+        for (int i = 0; i < listings.size(); i++) {
+            if (positions.putIfAbsent(new IdentityKey(listings.get(i)), i) != null) {
+                return null;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Hash key over the identity fields of a listing, consistent with {@code Listing#isSameListing(Listing)}.
+     */
+    private static final class IdentityKey {
+        private final PostalCode postalCode;
+        private final UnitNumber unitNumber;
+        private final HouseNumber houseNumber;
+
+        IdentityKey(Listing listing) {
+            this.postalCode = listing.getPostalCode();
+            this.unitNumber = listing.getUnitNumber();
+            this.houseNumber = listing.getHouseNumber();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
             }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return postalCode.equals(otherKey.postalCode)
+                    && Objects.equals(unitNumber, otherKey.unitNumber)
+                    && Objects.equals(houseNumber, otherKey.houseNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postalCode, unitNumber, houseNumber);
+        }
+    }
+
+    private void replaceContents(List<Listing> replacement) {
+        if (contents == internalList) {
+            internalList.setAll(replacement);
+        } else {
+            contents.clear();
+            contents.addAll(replacement);
         }
-        return true;
     }
 }
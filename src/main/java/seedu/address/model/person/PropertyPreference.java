@@ -4,13 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person's property preference in the real estate system.
@@ -23,7 +23,7 @@ public class PropertyPreference {
     private final PriceRange priceRange;
 
     // Associations
-    private final Set<Tag> tags = new HashSet<>();
+    private TagSet tags;
     private Person person;
 
 
@@ -37,7 +37,7 @@ public class PropertyPreference {
     public PropertyPreference(PriceRange priceRange, Set<Tag> tags, Person person) {
         requireAllNonNull(priceRange, tags, person);
         this.priceRange = priceRange;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.person = person;
     }
 
@@ -65,8 +65,8 @@ public class PropertyPreference {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
@@ -77,7 +77,7 @@ public class PropertyPreference {
     public void addTag(Tag toAdd) {
         requireNonNull(toAdd);
 
-        this.tags.add(toAdd);
+        this.tags = tags.with(toAdd);
     }
 
     /**
@@ -88,7 +88,7 @@ public class PropertyPreference {
     public void removeTag(Tag toDelete) {
         requireNonNull(toDelete);
 
-        this.tags.remove(toDelete);
+        this.tags = tags.without(toDelete);
     }
 
     @Override
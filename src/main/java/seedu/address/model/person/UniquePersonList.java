@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The position of every person is also indexed by its {@code Phone}, the identity field used by
+ * {@code Person#isSamePerson(Person)}, so that identity checks and position lookups do not scan the list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +33,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The list that changes are made to, which is a plain copy of internalList during a bulk update
+    private List<Person> contents = internalList;
+    private final Map<Phone, Integer> positionsByPhone = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -45,7 +54,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        positionsByPhone.put(toAdd.getPhone(), contents.size());
+        contents.add(toAdd);
     }
 
     /**
@@ -56,16 +66,20 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
-            throw new DuplicatePersonException();
+        if (!target.isSamePerson(editedPerson)) {
+            if (contains(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            positionsByPhone.remove(target.getPhone());
+            positionsByPhone.put(editedPerson.getPhone(), index);
         }
 
-        internalList.set(index, editedPerson);
+        contents.set(index, editedPerson);
     }
 
     /**
@@ -74,14 +88,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        contents.remove(index);
+        positionsByPhone.remove(toRemove.getPhone());
+        for (int i = index; i < contents.size(); i++) {
+            positionsByPhone.put(contents.get(i).getPhone(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        positionsByPhone.clear();
+        positionsByPhone.putAll(replacement.positionsByPhone);
+        replaceContents(replacement.contents);
     }
 
     /**
@@ -90,11 +113,33 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Phone, Integer> replacementPositions = indexByPhone(persons);
+        if (replacementPositions == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        positionsByPhone.clear();
+        positionsByPhone.putAll(replacementPositions);
+        replaceContents(persons);
+    }
+
+    /**
+     * Starts a bulk update, during which changes to this list are not published to its observable view.
+     * Bulk updates cannot be nested.
+     */
+    public void beginBulkUpdate() {
+        assert contents == internalList : "Bulk updates cannot be nested";
+        contents = new ArrayList<>(internalList);
+    }
+
+    /**
+     * Ends the bulk update in progress, publishing every change made since it began to the observable view as a
+     * single change.
+     */
+    public void endBulkUpdate() {
+        assert contents != internalList : "No bulk update is in progress";
+        internalList.setAll(contents);
+        contents = internalList;
     }
 
     /**
@@ -106,7 +151,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return contents.iterator();
     }
 
     @Override
@@ -121,30 +166,51 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return contents.equals(otherUniquePersonList.contents);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return contents.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return contents.toString();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code toFind}, or -1 if there is no such person.
+     * Only the person sharing the phone of {@code toFind} can be equal to it, so a single lookup suffices.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person toFind) {
+        Integer index = positionsByPhone.get(toFind.getPhone());
+        if (index == null || !contents.get(index).equals(toFind)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the positions of {@code persons} keyed by phone, or null if {@code persons} contains
+     * two persons with the same identity.
+     */
+    private Map<Phone, Integer> indexByPhone(List<Person> persons) {
+        Map<Phone, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.putIfAbsent(persons.get(i).getPhone(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
+    }
+
+    private void replaceContents(List<Person> replacement) {
+        if (contents == internalList) {
+            internalList.setAll(replacement);
+        } else {
+            contents.clear();
+            contents.addAll(replacement);
+        }
     }
 }
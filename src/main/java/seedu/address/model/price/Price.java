@@ -8,6 +8,8 @@ import java.math.BigDecimal;
 /**
  * Represents a Price in the real estate system.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ * The value is held as a whole number of cents. The number of decimal places it was given with is kept only so that
+ * it is displayed and stored the way it was entered.
  */
 public class Price {
     public static final String MESSAGE_CONSTRAINTS =
@@ -15,13 +17,17 @@ public class Price {
                     + "If no value is given, the lower bound price will be unbounded.";
 
     /*
-     * First character must be a letter
-     * The rest of the characters must be letters, apostrophes, spaces, periods, or hyphens
-     * Length of name should be between 2 and 50 characters
+     * One or more digits, optionally followed by a period and one or two digits.
+     * Validation is done by an equivalent hand-written scan that does not allocate, see parseCents.
      */
     public static final String VALIDATION_REGEX = "^[0-9]+(?:\\.\\d{1,2})?$";
 
-    public final BigDecimal price;
+    private static final long INVALID_CENTS = -1;
+    private static final long MAX_DOLLARS = (Long.MAX_VALUE - 99) / 100;
+    private static final long[] CENTS_PER_FRACTION_UNIT = {100, 10, 1};
+
+    public final long cents;
+    private final int fractionDigits;
 
     /**
      * Constructs a {@code Price}.
@@ -30,19 +36,72 @@ public class Price {
      */
     public Price(String price) {
         requireNonNull(price);
-        checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
-        this.price = new BigDecimal(price);
+        long parsedCents = parseCents(price);
+        checkArgument(parsedCents != INVALID_CENTS, MESSAGE_CONSTRAINTS);
+        this.cents = parsedCents;
+
+        int periodIndex = price.indexOf('.');
+        this.fractionDigits = periodIndex < 0 ? 0 : price.length() - periodIndex - 1;
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
         if (test == null) {
             return true;
         }
 
-        return test.matches(VALIDATION_REGEX);
+        return parseCents(test) != INVALID_CENTS;
+    }
+
+    /**
+     * Parses {@code text} as a price without allocating.
+     *
+     * @param text the text to parse.
+     * @return the price in cents, or {@code INVALID_CENTS} if {@code text} is not a valid price or is too large.
+     */
+    private static long parseCents(String text) {
+        int length = text.length();
+        int index = 0;
+        long dollars = 0;
+
+        while (index < length && isDigit(text.charAt(index))) {
+            int digit = text.charAt(index) - '0';
+            if (dollars > (MAX_DOLLARS - digit) / 10) {
+                return INVALID_CENTS;
+            }
+            dollars = dollars * 10 + digit;
+            index++;
+        }
+
+        if (index == 0) {
+            return INVALID_CENTS;
+        }
+        if (index == length) {
+            return dollars * 100;
+        }
+        if (text.charAt(index) != '.') {
+            return INVALID_CENTS;
+        }
+
+        int fractionDigits = length - index - 1;
+        if (fractionDigits < 1 || fractionDigits > 2) {
+            return INVALID_CENTS;
+        }
+
+        long fraction = 0;
+        for (index++; index < length; index++) {
+            if (!isDigit(text.charAt(index))) {
+                return INVALID_CENTS;
+            }
+            fraction = fraction * 10 + (text.charAt(index) - '0');
+        }
+        return dollars * 100 + fraction * CENTS_PER_FRACTION_UNIT[fractionDigits];
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
@@ -54,12 +113,19 @@ public class Price {
     public int compare(Price otherPrice) {
         requireNonNull(otherPrice);
 
-        return this.price.compareTo(otherPrice.price);
+        return Long.compare(this.cents, otherPrice.cents);
+    }
+
+    /**
+     * Returns the value of this price as a {@code BigDecimal} with the decimal places it was given with.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents / CENTS_PER_FRACTION_UNIT[fractionDigits], fractionDigits);
     }
 
     @Override
     public String toString() {
-        return "$" + price.toPlainString();
+        return "$" + toBigDecimal().toPlainString();
     }
 
     @Override
@@ -74,12 +140,12 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return this.price.equals(otherPrice.price);
+        return this.cents == otherPrice.cents;
     }
 
     @Override
     public int hashCode() {
-        return this.price.hashCode();
+        return Long.hashCode(cents);
     }
 
 }
@@ -0,0 +1,125 @@
+package seedu.address.model.price;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+
+/**
+ * Represents an index of the price ranges of all listings and all property preferences, answering which of them
+ * overlap a given price range without testing each one.
+ *
+ * The index observes the listing and person lists and is updated for every listing or person that is added,
+ * replaced or removed. Persons are re-indexed whenever they are replaced, so that property preferences added to or
+ * removed from a person in place are picked up once the person is set again.
+ * Queries may be made from several threads at once, as long as neither list is changed while they run.
+ */
+public class PriceIndex {
+
+    private final PriceIntervalTree<Listing> listingRanges = new PriceIntervalTree<>();
+    private final PriceIntervalTree<PropertyPreference> preferenceRanges = new PriceIntervalTree<>();
+    private final Map<Person, List<PropertyPreference>> indexedPreferences = new IdentityHashMap<>();
+    private final Map<PropertyPreference, Person> preferenceOwners = new IdentityHashMap<>();
+
+    /**
+     * Constructs a {@code PriceIndex} over the given lists.
+     *
+     * @param listings the listing list to index.
+     * @param persons  the person list whose property preferences are indexed.
+     */
+    public PriceIndex(ObservableList<Listing> listings, ObservableList<Person> persons) {
+        requireAllNonNull(listings, persons);
+
+        listings.forEach(this::addListing);
+        persons.forEach(this::addPerson);
+
+        listings.addListener((ListChangeListener<Listing>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(listingRanges::remove);
+                change.getAddedSubList().forEach(this::addListing);
+            }
+        });
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::removePerson);
+                change.getAddedSubList().forEach(this::addPerson);
+            }
+        });
+    }
+
+    /**
+     * Returns the listings whose price range overlaps {@code range}.
+     * The returned set compares listings by reference and cannot be modified.
+     */
+    public Set<Listing> getListingsOverlapping(PriceRange range) {
+        Set<Listing> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachListingOverlapping(range, result::add);
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Performs {@code action} on each listing whose price range overlaps {@code range}, without collecting them.
+     */
+    public void forEachListingOverlapping(PriceRange range, Consumer<Listing> action) {
+        requireAllNonNull(range, action);
+        listingRanges.forEachOverlapping(range, action);
+    }
+
+    /**
+     * Returns the persons with at least one property preference whose price range overlaps {@code range}.
+     * The returned set compares persons by reference and cannot be modified.
+     */
+    public Set<Person> getPersonsWithPreferenceOverlapping(PriceRange range) {
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        forEachPersonWithPreferenceOverlapping(range, result::add);
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Performs {@code action} on each person with a property preference whose price range overlaps {@code range},
+     * without collecting them. A person is passed once for each such preference.
+     */
+    public void forEachPersonWithPreferenceOverlapping(PriceRange range, Consumer<Person> action) {
+        requireAllNonNull(range, action);
+        preferenceRanges.forEachOverlapping(range, preference -> action.accept(preferenceOwners.get(preference)));
+    }
+
+    private void addListing(Listing listing) {
+        listingRanges.insert(listing.getPriceRange(), listing);
+    }
+
+    private void addPerson(Person person) {
+        List<PropertyPreference> preferences = new ArrayList<>(person.getPropertyPreferences());
+        for (PropertyPreference preference : preferences) {
+            preferenceRanges.insert(preference.getPriceRange(), preference);
+            preferenceOwners.put(preference, person);
+        }
+        indexedPreferences.put(person, preferences);
+    }
+
+    private void removePerson(Person person) {
+        List<PropertyPreference> preferences = indexedPreferences.remove(person);
+        if (preferences == null) {
+            return;
+        }
+
+        for (PropertyPreference preference : preferences) {
+            // A replacement person may already have taken over this preference
+            if (preferenceOwners.get(preference) == person) {
+                preferenceRanges.remove(preference);
+                preferenceOwners.remove(preference);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package seedu.address.model.price;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * An interval tree over price ranges, keyed on their bounds in cents, where an unbounded end is held as a sentinel
+ * beyond every price.
+ * The tree is an AVL tree ordered by lower bound, with every node also recording the highest upper bound in its
+ * subtree, so that subtrees which cannot overlap a query are skipped.
+ * Values are compared by reference, and each value is stored at most once.
+ *
+ * @param <T> the type of value attached to each price range.
+ */
+class PriceIntervalTree<T> {
+
+    private final Map<T, Node<T>> nodesByValue = new IdentityHashMap<>();
+    private Node<T> root;
+    private long nextSequence;
+
+    /**
+     * Inserts {@code value} with the price range {@code range}, replacing any range previously stored for it.
+     */
+    void insert(PriceRange range, T value) {
+        requireAllNonNull(range, value);
+        remove(value);
+
+        Node<T> node = new Node<>(range.getLowerBoundCents(), range.getUpperBoundCents(), nextSequence++, value);
+        nodesByValue.put(value, node);
+        root = insertNode(root, node);
+    }
+
+    /**
+     * Removes {@code value} from the tree, if present.
+     */
+    void remove(T value) {
+        requireNonNull(value);
+        Node<T> node = nodesByValue.remove(value);
+        if (node != null) {
+            root = removeNode(root, node);
+        }
+    }
+
+    /**
+     * Removes all values from the tree.
+     */
+    void clear() {
+        nodesByValue.clear();
+        root = null;
+    }
+
+    int size() {
+        return nodesByValue.size();
+    }
+
+    /**
+     * Passes every value whose price range overlaps {@code range} to {@code action}, in order of lower bound.
+     */
+    void forEachOverlapping(PriceRange range, Consumer<T> action) {
+        requireAllNonNull(range, action);
+        forEachOverlapping(root, range.getLowerBoundCents(), range.getUpperBoundCents(), action);
+    }
+
+    private void forEachOverlapping(Node<T> node, long lower, long upper, Consumer<T> action) {
+        if (node == null || node.maxUpper < lower) {
+            // Every range in this subtree ends before the query starts
+            return;
+        }
+
+        forEachOverlapping(node.left, lower, upper, action);
+
+        if (node.lower > upper) {
+            // This range and every range in the right subtree start after the query ends
+            return;
+        }
+
+        if (node.upper >= lower) {
+            action.accept(node.value);
+        }
+
+        forEachOverlapping(node.right, lower, upper, action);
+    }
+
+    //=========== AVL Operations =============================================================
+
+    private Node<T> insertNode(Node<T> node, Node<T> toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+
+        if (compareKeys(toInsert, node) < 0) {
+            node.left = insertNode(node.left, toInsert);
+        } else {
+            node.right = insertNode(node.right, toInsert);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> removeNode(Node<T> node, Node<T> toRemove) {
+        if (node == toRemove) {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            // Splice the successor into this position so that nodes keep their identity
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+
+        if (compareKeys(toRemove, node) < 0) {
+            node.left = removeNode(node.left, toRemove);
+        } else {
+            node.right = removeNode(node.right, toRemove);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> removeMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxUpper = node.upper;
+        if (node.left != null) {
+            node.maxUpper = Math.max(node.maxUpper, node.left.maxUpper);
+        }
+        if (node.right != null) {
+            node.maxUpper = Math.max(node.maxUpper, node.right.maxUpper);
+        }
+    }
+
+    private static <T> int height(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> int compareKeys(Node<T> first, Node<T> second) {
+        int comparison = Long.compare(first.lower, second.lower);
+        return comparison != 0 ? comparison : Long.compare(first.sequence, second.sequence);
+    }
+
+    private static class Node<T> {
+        private final long lower;
+        private final long upper;
+        private final long sequence;
+        private final T value;
+
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private long maxUpper;
+
+        Node(long lower, long upper, long sequence, T value) {
+            this.lower = lower;
+            this.upper = upper;
+            this.sequence = sequence;
+            this.value = value;
+            this.maxUpper = upper;
+        }
+    }
+}
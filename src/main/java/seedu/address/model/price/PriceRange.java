@@ -13,18 +13,31 @@ import java.util.Objects;
  * If it is bounded on both sides, it must have a lowerBoundPrice and an upperBoundPrice.
  * If it is bounded on one side, it must have one null field.
  * If it is unbounded, it must have two null fields.
+ * The bounds are also held in cents, with an unbounded end held as a sentinel beyond every price, so that range checks
+ * are plain comparisons.
  */
 public class PriceRange {
 
+    /** Lower bound in cents of a range without a lower bound. */
+    public static final long UNBOUNDED_LOWER_CENTS = Long.MIN_VALUE;
+
+    /** Upper bound in cents of a range without an upper bound. */
+    public static final long UNBOUNDED_UPPER_CENTS = Long.MAX_VALUE;
+
     public final Price lowerBoundPrice;
     public final Price upperBoundPrice;
 
+    private final long lowerBoundCents;
+    private final long upperBoundCents;
+
     /**
      * Constructs an unbounded {@code PriceRange}.
      */
     public PriceRange() {
         this.lowerBoundPrice = null;
         this.upperBoundPrice = null;
+        this.lowerBoundCents = UNBOUNDED_LOWER_CENTS;
+        this.upperBoundCents = UNBOUNDED_UPPER_CENTS;
     }
 
     /**
@@ -39,9 +52,13 @@ public class PriceRange {
         if (isUpperBound) {
             this.lowerBoundPrice = null;
             this.upperBoundPrice = singleBoundPrice;
+            this.lowerBoundCents = UNBOUNDED_LOWER_CENTS;
+            this.upperBoundCents = singleBoundPrice.cents;
         } else {
             this.lowerBoundPrice = singleBoundPrice;
             this.upperBoundPrice = null;
+            this.lowerBoundCents = singleBoundPrice.cents;
+            this.upperBoundCents = UNBOUNDED_UPPER_CENTS;
         }
     }
 
@@ -56,6 +73,22 @@ public class PriceRange {
         checkArgument(lowerBoundPrice.compare(upperBoundPrice) <= 0);
         this.lowerBoundPrice = lowerBoundPrice;
         this.upperBoundPrice = upperBoundPrice;
+        this.lowerBoundCents = lowerBoundPrice.cents;
+        this.upperBoundCents = upperBoundPrice.cents;
+    }
+
+    /**
+     * Returns the lower bound in cents, or {@link #UNBOUNDED_LOWER_CENTS} if there is no lower bound.
+     */
+    public long getLowerBoundCents() {
+        return lowerBoundCents;
+    }
+
+    /**
+     * Returns the upper bound in cents, or {@link #UNBOUNDED_UPPER_CENTS} if there is no upper bound.
+     */
+    public long getUpperBoundCents() {
+        return upperBoundCents;
     }
 
     /**
@@ -67,27 +100,12 @@ public class PriceRange {
     public boolean isPriceWithinRange(Price otherPrice) {
         requireNonNull(otherPrice);
 
-        // If range is unbounded
-        if (this.lowerBoundPrice == null && this.upperBoundPrice == null) {
-            return true;
-        }
-
-        // If range is only upper bounded
-        if (this.lowerBoundPrice == null) {
-            return otherPrice.compare(this.upperBoundPrice) <= 0;
-        }
-
-        // If range is only lower bounded
-        if (this.upperBoundPrice == null) {
-            return otherPrice.compare(this.lowerBoundPrice) >= 0;
-        }
-
-        // If range is bounded on both sides
-        return otherPrice.compare(this.lowerBoundPrice) >= 0 && otherPrice.compare(this.upperBoundPrice) <= 0;
+        return otherPrice.cents >= lowerBoundCents && otherPrice.cents <= upperBoundCents;
     }
 
     /**
-     * Checks if two price ranges overlap.
+     * Checks if two price ranges overlap, i.e. there is a price within both ranges.
+     * An unbounded end extends indefinitely in its direction.
      *
      * @param otherPriceRange the other price range to check.
      * @return true if the price ranges overlap, false otherwise.
@@ -95,20 +113,8 @@ public class PriceRange {
     public boolean doPriceRangeOverlap(PriceRange otherPriceRange) {
         requireNonNull(otherPriceRange);
 
-        boolean isOtherLowerBoundWithinRange = otherPriceRange.lowerBoundPrice == null
-                || this.isPriceWithinRange(otherPriceRange.lowerBoundPrice);
-
-        boolean isOtherUpperBoundWithinRange = otherPriceRange.upperBoundPrice == null
-                || this.isPriceWithinRange(otherPriceRange.upperBoundPrice);
-
-        boolean isThisLowerBoundWithinRange = this.lowerBoundPrice == null
-                || otherPriceRange.isPriceWithinRange(this.lowerBoundPrice);
-
-        boolean isThisUpperBoundWithinRange = this.upperBoundPrice == null
-                || otherPriceRange.isPriceWithinRange(this.upperBoundPrice);
-
-        return isOtherLowerBoundWithinRange || isOtherUpperBoundWithinRange
-                || (isThisLowerBoundWithinRange && isThisUpperBoundWithinRange);
+        return lowerBoundCents <= otherPriceRange.upperBoundCents
+                && otherPriceRange.lowerBoundCents <= upperBoundCents;
     }
 
     @Override
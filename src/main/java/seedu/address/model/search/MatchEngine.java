@@ -0,0 +1,143 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.price.PriceIndex;
+import seedu.address.model.search.comparators.PersonListingScoreComparator;
+import seedu.address.model.search.predicates.PersonMatchesPropertyPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
+
+/**
+ * Matches every available listing against the property preferences of every person at once, splitting the listings
+ * across the workers of a {@code ForkJoinPool}.
+ * A person matches a listing under the same rules as {@code matchListing}, see
+ * {@link PersonMatchesPropertyPredicate}, and is ranked by {@link PersonListingScoreComparator}.
+ * Only the persons found through the price and tag indexes are examined for each listing.
+ * The listings and persons must not be changed while matching is in progress.
+ */
+public class MatchEngine {
+
+    /** Number of listings below which a task matches its listings itself instead of splitting further. */
+    private static final int LISTINGS_PER_TASK = 64;
+
+    private final PriceIndex priceIndex;
+    private final TagIndex tagIndex;
+    private final LongAdder candidateCount = new LongAdder();
+
+    /**
+     * Constructs a {@code MatchEngine} that finds the candidate buyers of each listing through the given indexes.
+     */
+    public MatchEngine(PriceIndex priceIndex, TagIndex tagIndex) {
+        requireAllNonNull(priceIndex, tagIndex);
+        this.priceIndex = priceIndex;
+        this.tagIndex = tagIndex;
+    }
+
+    /**
+     * Matches each available listing in {@code listings} against every person, using the workers of {@code pool}.
+     * Unavailable listings are left out of the result, and the remaining listings keep their order.
+     *
+     * @param listings the listings to match.
+     * @param pool     the pool to match the listings in.
+     * @return the table of ranked buyers for each available listing.
+     */
+    public MatchTable matchAll(List<Listing> listings, ForkJoinPool pool) {
+        requireAllNonNull(listings, pool);
+
+        List<Listing> availableListings = listings.stream()
+                .filter(Listing::getAvailability)
+                .toList();
+        Person[][] buyersByListing = new Person[availableListings.size()][];
+        int[][] scoresByListing = new int[availableListings.size()][];
+
+        pool.invoke(new MatchTask(availableListings, buyersByListing, scoresByListing, 0, availableListings.size()));
+        return new MatchTable(availableListings, buyersByListing, scoresByListing);
+    }
+
+    /**
+     * Returns the number of candidate buyers found through the indexes so far, summed over every listing matched.
+     */
+    public long getCandidateCount() {
+        return candidateCount.sum();
+    }
+
+    /**
+     * Returns the persons matching {@code listing}, found through the price and tag indexes.
+     */
+    private Person[] findBuyers(Listing listing) {
+        Set<String> tagNames = listing.getTags().stream()
+                .map(Tag::getTagName)
+                .collect(Collectors.toSet());
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(priceIndex.getPersonsWithPreferenceOverlapping(listing.getPriceRange()));
+        candidates.addAll(tagIndex.getPersonsWithPreferenceWithAnyTag(tagNames));
+        candidateCount.add(candidates.size());
+
+        return candidates.stream()
+                .filter(new PersonMatchesPropertyPredicate(listing))
+                .toArray(Person[]::new);
+    }
+
+    /**
+     * Matches the listings at positions {@code from} up to {@code to}, splitting them in half until few enough remain.
+     */
+    private class MatchTask extends RecursiveAction {
+        private final List<Listing> listings;
+        private final Person[][] buyersByListing;
+        private final int[][] scoresByListing;
+        private final int from;
+        private final int to;
+
+        MatchTask(List<Listing> listings, Person[][] buyersByListing, int[][] scoresByListing, int from, int to) {
+            this.listings = listings;
+            this.buyersByListing = buyersByListing;
+            this.scoresByListing = scoresByListing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LISTINGS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    matchListing(i);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new MatchTask(listings, buyersByListing, scoresByListing, from, middle),
+                    new MatchTask(listings, buyersByListing, scoresByListing, middle, to));
+        }
+
+        private void matchListing(int position) {
+            Listing listing = listings.get(position);
+            Person[] buyers = findBuyers(listing);
+
+            // Each buyer is scored once, and the scores kept for sorting are reused for the table
+            PersonListingScoreComparator byScore = new PersonListingScoreComparator(listing, List.of(buyers));
+            Arrays.sort(buyers, byScore);
+            int[] scores = new int[buyers.length];
+            for (int rank = 0; rank < buyers.length; rank++) {
+                scores[rank] = byScore.getScore(buyers[rank]);
+            }
+
+            buyersByListing[position] = buyers;
+            scoresByListing[position] = scores;
+        }
+    }
+}
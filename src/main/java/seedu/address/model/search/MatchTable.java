@@ -0,0 +1,111 @@
+package seedu.address.model.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the result of matching every listing against every person, as a table from each listing to the persons
+ * whose property preferences match it, best match first.
+ * The ranked buyers of all listings are held back to back in flat arrays, with the buyers of the listing at position
+ * {@code i} occupying positions {@code offsets[i]} up to {@code offsets[i + 1]}.
+ * Guarantees: immutable.
+ */
+public class MatchTable {
+
+    public static final String CSV_HEADER = "postalCode,unitNumber,houseNumber,rank,name,phone,score";
+
+    private final Listing[] listings;
+    private final int[] offsets;
+    private final Person[] buyers;
+    private final int[] scores;
+
+    /**
+     * Constructs a {@code MatchTable} from the ranked buyers and their scores for each listing, where
+     * {@code buyersByListing[i]} and {@code scoresByListing[i]} belong to {@code listings.get(i)}.
+     */
+    MatchTable(List<Listing> listings, Person[][] buyersByListing, int[][] scoresByListing) {
+        requireAllNonNull(listings, buyersByListing, scoresByListing);
+        this.listings = listings.toArray(new Listing[0]);
+        this.offsets = new int[this.listings.length + 1];
+
+        for (int i = 0; i < this.listings.length; i++) {
+            offsets[i + 1] = offsets[i] + buyersByListing[i].length;
+        }
+
+        this.buyers = new Person[offsets[this.listings.length]];
+        this.scores = new int[buyers.length];
+        for (int i = 0; i < this.listings.length; i++) {
+            System.arraycopy(buyersByListing[i], 0, buyers, offsets[i], buyersByListing[i].length);
+            System.arraycopy(scoresByListing[i], 0, scores, offsets[i], scoresByListing[i].length);
+        }
+    }
+
+    /**
+     * Returns the number of listings in the table.
+     */
+    public int getListingCount() {
+        return listings.length;
+    }
+
+    /**
+     * Returns the total number of matches over all listings in the table.
+     */
+    public int getMatchCount() {
+        return buyers.length;
+    }
+
+    public Listing getListing(int listingPosition) {
+        return listings[listingPosition];
+    }
+
+    /**
+     * Returns the persons matching the listing at {@code listingPosition}, best match first.
+     */
+    public List<Person> getRankedBuyers(int listingPosition) {
+        return Collections.unmodifiableList(Arrays.asList(buyers)
+                .subList(offsets[listingPosition], offsets[listingPosition + 1]));
+    }
+
+    /**
+     * Returns the score of the person at {@code rank}, counted from 0, among those matching the listing at
+     * {@code listingPosition}.
+     */
+    public int getScore(int listingPosition, int rank) {
+        int position = offsets[listingPosition] + rank;
+        if (rank < 0 || position >= offsets[listingPosition + 1]) {
+            throw new IndexOutOfBoundsException(rank);
+        }
+        return scores[position];
+    }
+
+    /**
+     * Writes the table to {@code writer} as comma-separated values, with a header row followed by one row for each
+     * match. Ranks are counted from 1, and a missing unit or house number is left empty.
+     *
+     * @throws IOException if the values could not be written.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.append(CSV_HEADER).append('\n');
+        for (int i = 0; i < listings.length; i++) {
+            Listing listing = listings[i];
+            for (int position = offsets[i]; position < offsets[i + 1]; position++) {
+                writer.append(String.valueOf(listing.getPostalCode())).append(',')
+                        .append(listing.getUnitNumber() == null ? "" : listing.getUnitNumber().toString()).append(',')
+                        .append(listing.getHouseNumber() == null ? "" : listing.getHouseNumber().toString())
+                        .append(',')
+                        .append(String.valueOf(position - offsets[i] + 1)).append(',')
+                        .append(String.valueOf(buyers[position].getName())).append(',')
+                        .append(String.valueOf(buyers[position].getPhone())).append(',')
+                        .append(String.valueOf(scores[position])).append('\n');
+            }
+        }
+    }
+}
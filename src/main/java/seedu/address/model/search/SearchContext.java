@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.events.SearchContextChangeEvent;
 import seedu.address.model.Model;
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.price.PriceRange;
@@ -34,10 +35,11 @@ public class SearchContext {
      */
     public void configureSearch(SearchType type, Set<Tag> tags, PriceRange range,
                                 Predicate<PropertyPreference> predicate) {
-        setSearchType(type);
-        setActiveSearchTags(tags);
-        setActivePriceRange(range);
-        setPropertyPreferencePredicate(predicate);
+        this.searchType = requireNonNull(type);
+        replaceActiveSearchTags(tags);
+        this.activePriceRange = range;
+        this.propertyPreferencePredicate = requireNonNull(predicate);
+        commitChangeEvent();
     }
 
     /**
@@ -99,6 +101,7 @@ public class SearchContext {
 
     public void setSearchType(SearchType searchType) {
         this.searchType = requireNonNull(searchType);
+        commitChangeEvent();
     }
 
     public Set<Tag> getActiveTags() {
@@ -106,6 +109,11 @@ public class SearchContext {
     }
 
     public void setActiveSearchTags(Set<Tag> tags) {
+        replaceActiveSearchTags(tags);
+        commitChangeEvent();
+    }
+
+    private void replaceActiveSearchTags(Set<Tag> tags) {
         requireAllNonNull(tags);
         this.activeTags.clear();
         this.activeTags.addAll(tags);
@@ -117,6 +125,7 @@ public class SearchContext {
 
     public void setActivePriceRange(PriceRange range) {
         this.activePriceRange = range;
+        commitChangeEvent();
     }
 
     public Predicate<PropertyPreference> getPropertyPreferencePredicate() {
@@ -125,6 +134,22 @@ public class SearchContext {
 
     public void setPropertyPreferencePredicate(Predicate<PropertyPreference> predicate) {
         this.propertyPreferencePredicate = requireNonNull(predicate);
+        commitChangeEvent();
+    }
+
+    /**
+     * Commits an event of the search context as changed, if a flight recording is taking such events.
+     */
+    private void commitChangeEvent() {
+        SearchContextChangeEvent event = new SearchContextChangeEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        event.setSearchType(searchType.name());
+        event.setActiveTags(activeTags.size());
+        event.setActivePriceRange(activePriceRange == null ? null : activePriceRange.toString());
+        event.commit();
     }
 
     /* Helper Methods */
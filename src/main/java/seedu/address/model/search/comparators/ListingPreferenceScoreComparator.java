@@ -1,49 +1,61 @@
 package seedu.address.model.search.comparators;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.List;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
 
 /**
- * Compares two listings based on how well they match a given preference.
+ * Compares two listings based on how well they match a given preference, with better matches first.
+ * Listings with equal scores are ordered by {@link #TIE_BREAKER}.
+ * The listings expected to be compared can be scored once on construction, see {@link ScoreTable}.
  */
 public class ListingPreferenceScoreComparator implements Comparator<Listing> {
-    private static PropertyPreference preferenceToScore;
+    /** Orders listings by postal code, then by unit number, then by house number, which together identify a listing. */
+    public static final Comparator<Listing> TIE_BREAKER = Comparator.<Listing, String>comparing(
+            listing -> listing.getPostalCode().postalCode)
+            .thenComparing(listing -> listing.getUnitNumber() == null ? "" : listing.getUnitNumber().unitNumber)
+            .thenComparing(listing -> listing.getHouseNumber() == null ? "" : listing.getHouseNumber().houseNumber);
+
+    private final ScoreTable<Listing> listingScores;
 
     public ListingPreferenceScoreComparator(PropertyPreference preferenceToScore) {
-        this.preferenceToScore = preferenceToScore;
+        this(preferenceToScore, List.of());
     }
 
-    @Override
-    public int compare(Listing o1, Listing o2) {
-
-        HashMap<Listing, Integer> listingScores = new HashMap<>();
-
-        listingScores.put(o1, 0);
-        listingScores.put(o2, 0);
-        for (Listing listing : listingScores.keySet()) {
-            int score = 0;
+    /**
+     * Constructs a {@code ListingPreferenceScoreComparator} that scores each of {@code candidates} against
+     * {@code preferenceToScore} once up front.
+     */
+    public ListingPreferenceScoreComparator(PropertyPreference preferenceToScore,
+                                            Collection<Listing> candidates) {
+        requireNonNull(preferenceToScore);
+        this.listingScores = new ScoreTable<>(candidates, listing -> score(preferenceToScore, listing));
+    }
 
-            if (preferenceToScore.getPriceRange().doPriceRangeOverlap(listing.getPriceRange())) {
-                score += 1;
-            }
+    /**
+     * Returns how well {@code listing} matches {@code preference}: one point for an overlapping price range and one
+     * point for each tag of the preference that the listing carries.
+     */
+    public static int score(PropertyPreference preference, Listing listing) {
+        int score = 0;
 
-            for (Tag tag : preferenceToScore.getTags()) {
-                if (listing.getTags().contains(tag)) {
-                    score += 1;
-                }
-            }
+        if (preference.getPriceRange().doPriceRangeOverlap(listing.getPriceRange())) {
+            score += 1;
+        }
 
-            if (score == 0) {
-                continue;
-            }
+        score += preference.getTags().countCommon(listing.getTags());
 
-            listingScores.put(listing, score);
-        }
+        return score;
+    }
 
-        return Integer.compare(listingScores.get(o2), listingScores.get(o1));
+    @Override
+    public int compare(Listing o1, Listing o2) {
+        int comparison = Integer.compare(listingScores.getScore(o2), listingScores.getScore(o1));
+        return comparison != 0 ? comparison : TIE_BREAKER.compare(o1, o2);
     }
 }
@@ -1,59 +1,65 @@
 package seedu.address.model.search.comparators;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.List;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
 
 /**
- * Compares two persons based on their how well they match a given listing.
+ * Compares two persons based on how well their best property preference matches a given listing, with better matches
+ * first. Persons with equal scores are ordered by {@link #TIE_BREAKER}.
+ * The persons expected to be compared can be scored once on construction, see {@link ScoreTable}.
  */
 public class PersonListingScoreComparator implements Comparator<Person> {
-    private static Listing listingToScore;
+    /** Orders persons by name, then by phone number, which identifies a person. */
+    public static final Comparator<Person> TIE_BREAKER = Comparator.<Person, String>comparing(
+            person -> person.getName().fullName).thenComparing(person -> person.getPhone().value);
+
+    private final ScoreTable<Person> personScores;
 
     public PersonListingScoreComparator(Listing listingToScore) {
-        this.listingToScore = listingToScore;
+        this(listingToScore, List.of());
     }
 
-    @Override
-    public int compare(Person o1, Person o2) {
-
-        HashMap<Person, Integer> personScores = new HashMap<>();
-
-        personScores.put(o1, 0);
-        personScores.put(o2, 0);
-
-        for (Person person : personScores.keySet()) {
-            int score = 0;
-
-            for (PropertyPreference preference : person.getPropertyPreferences()) {
-                int preferenceScore = 0;
-
-                if (listingToScore.getPriceRange().doPriceRangeOverlap(preference.getPriceRange())) {
-                    preferenceScore += 1;
-                }
+    /**
+     * Constructs a {@code PersonListingScoreComparator} that scores each of {@code candidates} against
+     * {@code listingToScore} once up front.
+     */
+    public PersonListingScoreComparator(Listing listingToScore, Collection<Person> candidates) {
+        requireNonNull(listingToScore);
+        this.personScores = new ScoreTable<>(candidates, person -> score(listingToScore, person));
+    }
 
-                for (Tag tag : preference.getTags()) {
-                    if (listingToScore.getTags().contains(tag)) {
-                        preferenceScore += 1;
-                    }
-                }
+    /**
+     * Returns how well the best property preference of {@code person} matches {@code listing}, as scored by
+     * {@link ListingPreferenceScoreComparator#score(PropertyPreference, Listing)}.
+     */
+    public static int score(Listing listing, Person person) {
+        int score = 0;
 
-                if (preferenceScore == 0) {
-                    continue;
-                }
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            score = Math.max(score, ListingPreferenceScoreComparator.score(preference, listing));
+        }
 
-                if (preferenceScore > score) {
-                    score = preferenceScore;
-                }
-            }
+        return score;
+    }
 
-            personScores.put(person, score);
-        }
+    /**
+     * Returns the score of {@code person}, which is only computed again if it was not among the candidates scored on
+     * construction.
+     */
+    public int getScore(Person person) {
+        return personScores.getScore(person);
+    }
 
-        return Integer.compare(personScores.get(o2), personScores.get(o1));
+    @Override
+    public int compare(Person o1, Person o2) {
+        int comparison = Integer.compare(personScores.getScore(o2), personScores.getScore(o1));
+        return comparison != 0 ? comparison : TIE_BREAKER.compare(o1, o2);
     }
 }
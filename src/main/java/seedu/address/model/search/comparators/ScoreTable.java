@@ -0,0 +1,47 @@
+package seedu.address.model.search.comparators;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Holds the score of every candidate of a match, computed once up front so that sorting the candidates does not
+ * rescore them on every comparison.
+ * Candidates are looked up by reference. A candidate that was not given up front is scored on each lookup instead.
+ *
+ * @param <T> the type of candidate being scored.
+ */
+final class ScoreTable<T> {
+
+    private final ToIntFunction<T> scorer;
+    private final Map<T, Integer> positions;
+    private final int[] scores;
+
+    /**
+     * Constructs a {@code ScoreTable} holding the score of each of {@code candidates} under {@code scorer}.
+     */
+    ScoreTable(Collection<? extends T> candidates, ToIntFunction<T> scorer) {
+        requireAllNonNull(candidates, scorer);
+        this.scorer = scorer;
+        this.positions = new IdentityHashMap<>(candidates.size());
+        this.scores = new int[candidates.size()];
+
+        for (T candidate : candidates) {
+            int position = positions.size();
+            if (positions.putIfAbsent(candidate, position) == null) {
+                scores[position] = scorer.applyAsInt(candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns the score of {@code candidate}.
+     */
+    int getScore(T candidate) {
+        Integer position = positions.get(candidate);
+        return position == null ? scorer.applyAsInt(candidate) : scores[position];
+    }
+}
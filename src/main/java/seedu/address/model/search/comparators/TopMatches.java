@@ -0,0 +1,117 @@
+package seedu.address.model.search.comparators;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Selects the best-scoring candidates of a match without sorting all of them.
+ * Candidates are offered one at a time, and only the best {@code limit} of them are held at any time, in a min-heap
+ * whose root is the worst of them. Candidates with equal scores are ordered by a tie breaker, which should order any
+ * two distinct candidates, so that the result does not depend on the order in which candidates are offered.
+ *
+ * @param <T> the type of candidate being selected.
+ */
+public class TopMatches<T> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of matches to show must be a positive integer.";
+
+    private final int limit;
+    private final ToIntFunction<T> scorer;
+    private final Comparator<Scored<T>> worstFirst;
+    private final PriorityQueue<Scored<T>> heap;
+    private final Set<T> heldCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long scoredCount;
+
+    /**
+     * Constructs a {@code TopMatches} with no candidates offered yet.
+     *
+     * @param limit      the maximum number of candidates to select, which must be positive.
+     * @param scorer     the score of a candidate, higher being better.
+     * @param tieBreaker the order of candidates with equal scores.
+     */
+    public TopMatches(int limit, ToIntFunction<T> scorer, Comparator<T> tieBreaker) {
+        requireAllNonNull(scorer, tieBreaker);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+        this.limit = limit;
+        this.scorer = scorer;
+        this.worstFirst = Comparator.<Scored<T>>comparingInt(scored -> scored.score)
+                .thenComparing((first, second) -> tieBreaker.compare(second.candidate, first.candidate));
+        this.heap = new PriorityQueue<>(worstFirst);
+    }
+
+    /**
+     * Returns the {@code limit} candidates with the highest scores under {@code scorer}, best first.
+     *
+     * @see #TopMatches(int, ToIntFunction, Comparator)
+     */
+    public static <T> List<T> select(Collection<T> candidates, int limit, ToIntFunction<T> scorer,
+                                     Comparator<T> tieBreaker) {
+        requireAllNonNull(candidates);
+        TopMatches<T> topMatches = new TopMatches<>(limit, scorer, tieBreaker);
+        candidates.forEach(topMatches::offer);
+        return topMatches.getMatches();
+    }
+
+    /**
+     * Scores {@code candidate} and keeps it if it is among the best candidates offered so far.
+     * Offering a candidate again has no effect, so candidates found more than once need not be deduplicated first:
+     * one that is held is skipped, and one that was dropped scores below every candidate held since.
+     */
+    public void offer(T candidate) {
+        if (heldCandidates.contains(candidate)) {
+            return;
+        }
+
+        Scored<T> scored = new Scored<>(candidate, scorer.applyAsInt(candidate));
+        scoredCount++;
+        if (heap.size() < limit) {
+            heap.add(scored);
+            heldCandidates.add(candidate);
+        } else if (worstFirst.compare(scored, heap.peek()) > 0) {
+            heldCandidates.remove(heap.poll().candidate);
+            heap.add(scored);
+            heldCandidates.add(candidate);
+        }
+    }
+
+    /**
+     * Returns the number of candidates scored so far, which counts a candidate dropped and offered again each time.
+     */
+    public long getScoredCount() {
+        return scoredCount;
+    }
+
+    /**
+     * Returns the best candidates offered so far, best first.
+     */
+    public List<T> getMatches() {
+        List<Scored<T>> matches = new ArrayList<>(heap);
+        matches.sort(worstFirst.reversed());
+
+        List<T> result = new ArrayList<>(matches.size());
+        for (Scored<T> match : matches) {
+            result.add(match.candidate);
+        }
+        return result;
+    }
+
+    private static class Scored<T> {
+        private final T candidate;
+        private final int score;
+
+        Scored(T candidate, int score) {
+            this.candidate = candidate;
+            this.score = score;
+        }
+    }
+}
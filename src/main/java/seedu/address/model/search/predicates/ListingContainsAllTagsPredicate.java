@@ -9,22 +9,44 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Tests if a {@code Listing} contains all specified tags.
+ * If the listings carrying all the tags are already known, e.g. from a {@code TagIndex}, the test is a lookup.
  */
 public class ListingContainsAllTagsPredicate implements Predicate<Listing> {
     private final Set<String> tagsToMatch;
+    private final Set<String> upperCaseTagsToMatch;
+    private final Set<Listing> matchingListings;
 
+    /**
+     * Creates a predicate that tests the tags of each listing against {@code tagsToMatch}.
+     */
     public ListingContainsAllTagsPredicate(Set<String> tagsToMatch) {
+        this(tagsToMatch, null);
+    }
+
+    /**
+     * Creates a predicate that accepts exactly the listings in {@code matchingListings}, which must be the listings
+     * containing all of {@code tagsToMatch}.
+     */
+    public ListingContainsAllTagsPredicate(Set<String> tagsToMatch, Set<Listing> matchingListings) {
         this.tagsToMatch = tagsToMatch;
+        this.upperCaseTagsToMatch = tagsToMatch.stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.matchingListings = matchingListings;
     }
 
     @Override
     public boolean test(Listing listing) {
-        Set<String> listingTags = listing.getTags().stream()
-                .map(Tag::getTagName)
-                .map(String::toLowerCase)
-                .collect(Collectors.toSet());
+        if (matchingListings != null) {
+            return matchingListings.contains(listing);
+        }
 
-        return listingTags.containsAll(tagsToMatch.stream().map(String::toLowerCase).collect(Collectors.toSet()));
+        // Tag names are unique within a listing, so counting hits is enough
+        int matchedCount = 0;
+        for (Tag tag : listing.getTags()) {
+            if (upperCaseTagsToMatch.contains(tag.getTagName())) {
+                matchedCount++;
+            }
+        }
+        return matchedCount == upperCaseTagsToMatch.size();
     }
 
     @Override
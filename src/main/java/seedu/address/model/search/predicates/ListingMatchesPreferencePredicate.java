@@ -1,12 +1,10 @@
 package seedu.address.model.search.predicates;
 
-import java.util.Collections;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 
 /**
@@ -22,7 +20,7 @@ public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
 
     @Override
     public boolean test(Listing listing) {
-        Set<Tag> tagsToMatch = preferenceToMatch.getTags();
+        TagSet tagsToMatch = preferenceToMatch.getTags();
 
         // If unavailable or listing is owned by the person in the preference, reject.
         if (!listing.getAvailability() || listing.getOwners().contains(preferenceToMatch.getPerson())) {
@@ -36,8 +34,7 @@ public class ListingMatchesPreferencePredicate implements Predicate<Listing> {
         }
 
         // If any tags match and price range doesn't overlap, accept. Rejects otherwise.
-        Set<Tag> listingTags = listing.getTags();
-        return !Collections.disjoint(listingTags, tagsToMatch);
+        return listing.getTags().intersects(tagsToMatch);
     }
 
     @Override
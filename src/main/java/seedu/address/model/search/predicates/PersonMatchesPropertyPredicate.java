@@ -1,14 +1,12 @@
 package seedu.address.model.search.predicates;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s property preferences matches a {@code Listing}.
@@ -35,10 +33,10 @@ public class PersonMatchesPropertyPredicate implements Predicate<Person> {
             return false;
         }
 
-        Set<Tag> tagsToMatch = listingToMatch.getTags();
+        TagSet tagsToMatch = listingToMatch.getTags();
         for (PropertyPreference pref : propertyPreferences) {
             // If any tag matches, return true.
-            if (!Collections.disjoint(pref.getTags(), tagsToMatch)) {
+            if (pref.getTags().intersects(tagsToMatch)) {
                 return true;
             }
 
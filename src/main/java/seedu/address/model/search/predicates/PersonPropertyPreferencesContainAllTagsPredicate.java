@@ -2,17 +2,36 @@ package seedu.address.model.search.predicates;
 
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s property preferences contain all the specified tags.
+ * If the persons with such a preference are already known, e.g. from a {@code TagIndex}, the test is a lookup.
  */
 public class PersonPropertyPreferencesContainAllTagsPredicate implements Predicate<Person> {
     private final Set<String> tagsToMatch;
+    private final Set<String> upperCaseTagsToMatch;
+    private final Set<Person> matchingPersons;
 
+    /**
+     * Creates a predicate that tests the property preferences of each person against {@code tagsToMatch}.
+     */
     public PersonPropertyPreferencesContainAllTagsPredicate(Set<String> tagsToMatch) {
+        this(tagsToMatch, null);
+    }
+
+    /**
+     * Creates a predicate that accepts exactly the persons in {@code matchingPersons}, which must be the persons
+     * with a property preference containing all of {@code tagsToMatch}.
+     */
+    public PersonPropertyPreferencesContainAllTagsPredicate(Set<String> tagsToMatch, Set<Person> matchingPersons) {
         this.tagsToMatch = tagsToMatch;
+        this.upperCaseTagsToMatch = tagsToMatch.stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.matchingPersons = matchingPersons;
     }
 
     @Override
@@ -20,10 +39,24 @@ public class PersonPropertyPreferencesContainAllTagsPredicate implements Predica
         if (tagsToMatch.isEmpty()) {
             return false;
         }
-        return person.getPropertyPreferences().stream()
-                .anyMatch(pref -> tagsToMatch.stream()
-                        .allMatch(tagToFind -> pref.getTags().stream()
-                                .anyMatch(tag -> tag.getTagName().equalsIgnoreCase(tagToFind))));
+
+        if (matchingPersons != null) {
+            return matchingPersons.contains(person);
+        }
+
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            // Tag names are unique within a preference, so counting hits is enough
+            int matchedCount = 0;
+            for (Tag tag : preference.getTags()) {
+                if (upperCaseTagsToMatch.contains(tag.getTagName())) {
+                    matchedCount++;
+                }
+            }
+            if (matchedCount == upperCaseTagsToMatch.size()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -5,16 +5,17 @@ import java.util.function.Predicate;
 
 import seedu.address.model.person.PropertyPreference;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s property preferences contain all the specified tags.
  */
 public class PropertyPreferencesContainAllActiveSearchTagsPredicate implements Predicate<PropertyPreference> {
 
-    private final Set<Tag> tagsToMatch;
+    private final TagSet tagsToMatch;
 
     public PropertyPreferencesContainAllActiveSearchTagsPredicate(Set<Tag> tagsToMatch) {
-        this.tagsToMatch = tagsToMatch;
+        this.tagsToMatch = TagSet.of(tagsToMatch);
     }
 
     @Override
@@ -24,8 +25,7 @@ public class PropertyPreferencesContainAllActiveSearchTagsPredicate implements P
             return true;
         }
 
-        Set<Tag> preferenceTags = preference.getTags();
-        return preferenceTags.containsAll(tagsToMatch);
+        return preference.getTags().containsAll(tagsToMatch);
     }
 
     @Override
@@ -1,12 +1,10 @@
 package seedu.address.model.search.predicates;
 
-import java.util.Collections;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.PropertyPreference;
-import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s property preferences contain all the specified tags.
@@ -21,7 +19,7 @@ public class PropertyPreferencesMatchesListingPredicate implements Predicate<Pro
 
     @Override
     public boolean test(PropertyPreference preference) {
-        Set<Tag> tagsToMatch = listingToMatch.getTags();
+        TagSet tagsToMatch = listingToMatch.getTags();
 
         if (tagsToMatch.isEmpty()) {
             return true;
@@ -31,8 +29,7 @@ public class PropertyPreferencesMatchesListingPredicate implements Predicate<Pro
             return true;
         }
 
-        Set<Tag> preferenceTags = preference.getTags();
-        return !Collections.disjoint(preferenceTags, tagsToMatch);
+        return preference.getTags().intersects(tagsToMatch);
     }
 
     @Override
@@ -22,10 +22,23 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags must be between 2 and 30 characters long and can only "
             + "contain letters, numbers, apostrophes, spaces, periods, hyphens, underscores, plus, and ampersands. "
             + "The tag cannot be blank and must not already exist (unless for deleting).";
+
+    /*
+     * Between 2 and 30 letters, digits or any of ' ._+&-
+     * Validation is done by an equivalent hand-written scan that does not allocate, see isValidTagName.
+     */
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9' ._+&-]{2,30}$";
 
+    /** The ID of a tag that has not been added to a {@link UniqueTagMap}. */
+    public static final int NO_ID = -1;
+
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 30;
+
     // Identity fields
     public final String tagName;
+    private UniqueTagMap idOwner;
+    private int id = NO_ID;
 
     // Associations
     private final List<PropertyPreference> propertyPreferences = new ArrayList<>();
@@ -53,13 +66,52 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        int length = test.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (!isValidTagNameCharacter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidTagNameCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '\'' || c == ' ' || c == '.' || c == '_' || c == '+' || c == '&' || c == '-';
     }
 
     public String getTagName() {
         return tagName;
     }
 
+    /**
+     * Returns the dense int ID given to this tag by the {@link UniqueTagMap} it was last added to, or {@link #NO_ID}
+     * if it has not been added to one. IDs given by different maps are unrelated, see {@link #getIdOwner()}.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the {@link UniqueTagMap} that gave this tag its ID, or null if it has not been added to one.
+     */
+    UniqueTagMap getIdOwner() {
+        return idOwner;
+    }
+
+    /**
+     * Gives this tag the ID {@code id} in {@code idOwner}.
+     */
+    void setId(UniqueTagMap idOwner, int id) {
+        requireNonNull(idOwner);
+        this.idOwner = idOwner;
+        this.id = id;
+    }
+
     /**
      * Returns an immutable property preferences list, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
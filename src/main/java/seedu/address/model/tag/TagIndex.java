@@ -0,0 +1,247 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+
+/**
+ * Represents an inverted index from tag names to the listings and property preferences that carry them.
+ * Listings are numbered by their position in the listing list, and property preferences by their position when
+ * the preferences of every person in the person list are laid out in order. Each tag maps to a bitmap of those
+ * ordinals, so that a query for entities carrying all of several tags is answered by intersecting bitmaps,
+ * smallest first, instead of testing every entity.
+ *
+ * The index observes the listing and person lists and is rebuilt lazily on the first query after either changes.
+ * Queries may be made from several threads at once, as long as neither list is changed while they run.
+ */
+public class TagIndex {
+
+    private final ObservableList<Listing> listings;
+    private final ObservableList<Person> persons;
+
+    private final Map<String, BitSet> listingBitmaps = new HashMap<>();
+    private final Map<String, BitSet> preferenceBitmaps = new HashMap<>();
+    private final List<Listing> listingsByOrdinal = new ArrayList<>();
+    private final List<Person> personsByPreferenceOrdinal = new ArrayList<>();
+    private volatile boolean isStale = true;
+
+    /**
+     * Constructs a {@code TagIndex} over the given lists.
+     *
+     * @param listings the listing list to index.
+     * @param persons  the person list whose property preferences are indexed.
+     */
+    public TagIndex(ObservableList<Listing> listings, ObservableList<Person> persons) {
+        requireAllNonNull(listings, persons);
+        this.listings = listings;
+        this.persons = persons;
+
+        InvalidationListener markStale = unused -> isStale = true;
+        listings.addListener(markStale);
+        persons.addListener(markStale);
+    }
+
+    /**
+     * Returns the listings that carry every tag in {@code tagNames}, compared case-insensitively.
+     * The returned set compares listings by reference and cannot be modified.
+     *
+     * @param tagNames the tag names to match, which must not be empty.
+     * @return the matching listings.
+     */
+    public Set<Listing> getListingsWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        refreshIfStale();
+
+        return collect(intersect(listingBitmaps, tagNames), listingsByOrdinal);
+    }
+
+    /**
+     * Returns the persons that have at least one property preference carrying every tag in {@code tagNames},
+     * compared case-insensitively.
+     * The returned set compares persons by reference and cannot be modified.
+     *
+     * @param tagNames the tag names to match, which must not be empty.
+     * @return the matching persons.
+     */
+    public Set<Person> getPersonsWithPreferenceWithAllTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        refreshIfStale();
+
+        return collect(intersect(preferenceBitmaps, tagNames), personsByPreferenceOrdinal);
+    }
+
+    /**
+     * Returns the listings that carry at least one tag in {@code tagNames}, compared case-insensitively.
+     * The returned set compares listings by reference and cannot be modified.
+     *
+     * @param tagNames the tag names to match.
+     * @return the matching listings.
+     */
+    public Set<Listing> getListingsWithAnyTag(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        refreshIfStale();
+
+        return collect(union(listingBitmaps, tagNames), listingsByOrdinal);
+    }
+
+    /**
+     * Performs {@code action} on each listing that carries at least one tag in {@code tagNames}, compared
+     * case-insensitively, without collecting them. A listing is passed once for each of those tags it carries.
+     */
+    public void forEachListingWithAnyTag(Collection<String> tagNames, Consumer<Listing> action) {
+        requireAllNonNull(tagNames, action);
+        refreshIfStale();
+
+        forEach(listingBitmaps, tagNames, listingsByOrdinal, action);
+    }
+
+    /**
+     * Returns the persons that have at least one property preference carrying at least one tag in
+     * {@code tagNames}, compared case-insensitively.
+     * The returned set compares persons by reference and cannot be modified.
+     *
+     * @param tagNames the tag names to match.
+     * @return the matching persons.
+     */
+    public Set<Person> getPersonsWithPreferenceWithAnyTag(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        refreshIfStale();
+
+        return collect(union(preferenceBitmaps, tagNames), personsByPreferenceOrdinal);
+    }
+
+    /**
+     * Performs {@code action} on each person that has a property preference carrying at least one tag in
+     * {@code tagNames}, compared case-insensitively, without collecting them. A person is passed once for each tag
+     * carried by each of their preferences.
+     */
+    public void forEachPersonWithPreferenceWithAnyTag(Collection<String> tagNames, Consumer<Person> action) {
+        requireAllNonNull(tagNames, action);
+        refreshIfStale();
+
+        forEach(preferenceBitmaps, tagNames, personsByPreferenceOrdinal, action);
+    }
+
+    /**
+     * Collects the entities at the ordinals set in {@code ordinals} into an unmodifiable set that compares entities by
+     * reference.
+     */
+    private static <T> Set<T> collect(BitSet ordinals, List<T> entitiesByOrdinal) {
+        Set<T> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            result.add(entitiesByOrdinal.get(i));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Performs {@code action} on the entity at each ordinal set in the bitmap of each of {@code tagNames}.
+     */
+    private static <T> void forEach(Map<String, BitSet> bitmaps, Collection<String> tagNames,
+            List<T> entitiesByOrdinal, Consumer<T> action) {
+        for (String tagName : tagNames) {
+            BitSet bitmap = bitmaps.get(tagName.toUpperCase());
+            if (bitmap == null) {
+                continue;
+            }
+            for (int i = bitmap.nextSetBit(0); i >= 0; i = bitmap.nextSetBit(i + 1)) {
+                action.accept(entitiesByOrdinal.get(i));
+            }
+        }
+    }
+
+    /**
+     * Unites the bitmaps of {@code tagNames}.
+     */
+    private static BitSet union(Map<String, BitSet> bitmaps, Collection<String> tagNames) {
+        BitSet result = new BitSet();
+        for (String tagName : tagNames) {
+            BitSet bitmap = bitmaps.get(tagName.toUpperCase());
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Intersects the bitmaps of {@code tagNames} in increasing order of cardinality, stopping early once the
+     * intersection is empty.
+     */
+    private static BitSet intersect(Map<String, BitSet> bitmaps, Collection<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return new BitSet();
+        }
+
+        List<BitSet> operands = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            BitSet bitmap = bitmaps.get(tagName.toUpperCase());
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            operands.add(bitmap);
+        }
+        operands.sort(Comparator.comparingInt(BitSet::cardinality));
+
+        BitSet result = (BitSet) operands.get(0).clone();
+        for (int i = 1; i < operands.size() && !result.isEmpty(); i++) {
+            result.and(operands.get(i));
+        }
+        return result;
+    }
+
+    private void refreshIfStale() {
+        if (!isStale) {
+            return;
+        }
+
+        synchronized (this) {
+            if (isStale) {
+                refresh();
+            }
+        }
+    }
+
+    private void refresh() {
+        listingBitmaps.clear();
+        listingsByOrdinal.clear();
+        for (Listing listing : listings) {
+            int ordinal = listingsByOrdinal.size();
+            listingsByOrdinal.add(listing);
+            for (Tag tag : listing.getTags()) {
+                listingBitmaps.computeIfAbsent(tag.getTagName(), unused -> new BitSet()).set(ordinal);
+            }
+        }
+
+        preferenceBitmaps.clear();
+        personsByPreferenceOrdinal.clear();
+        for (Person person : persons) {
+            for (PropertyPreference preference : person.getPropertyPreferences()) {
+                int ordinal = personsByPreferenceOrdinal.size();
+                personsByPreferenceOrdinal.add(person);
+                for (Tag tag : preference.getTags()) {
+                    preferenceBitmaps.computeIfAbsent(tag.getTagName(), unused -> new BitSet()).set(ordinal);
+                }
+            }
+        }
+
+        isStale = false;
+    }
+}
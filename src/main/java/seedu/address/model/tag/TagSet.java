@@ -0,0 +1,216 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents an immutable set of tags, stored as a bitset over tag IDs together with the tags themselves in order of
+ * ID. Counting or testing the tags shared by two tag sets is done a word of the bitset at a time.
+ * Tags are compared by tag name. Tag IDs are given out by a {@link UniqueTagMap}, and IDs from different maps are
+ * unrelated, so the bitsets of two sets are only compared when every tag of both had its ID from the same map when
+ * the sets were built. Otherwise, such as for a set holding a tag that had no ID, or when comparing a set loaded from
+ * storage with one in memory, tags are compared by name one at a time.
+ * Methods that would modify the set throw {@code UnsupportedOperationException}; use {@link #with(Tag)} and
+ * {@link #without(Tag)} to derive a modified copy instead.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+    private final long[] words;
+    // The map that gave every tag its ID when this set was built, so that words holds all of them, or null if none did
+    private final UniqueTagMap idOwner;
+
+    private TagSet(Tag[] tags) {
+        Arrays.sort(tags, Comparator.comparingInt(Tag::getId));
+        this.tags = tags;
+        this.idOwner = getIdOwner(tags);
+
+        long[] words = new long[idOwner == null ? 0 : (tags[tags.length - 1].getId() >>> 6) + 1];
+        if (idOwner != null) {
+            for (Tag tag : tags) {
+                words[tag.getId() >>> 6] |= 1L << tag.getId();
+            }
+        }
+        this.words = words;
+    }
+
+    /**
+     * Returns the map that gave every tag in {@code tags} its ID, or null if there is no such map.
+     */
+    private static UniqueTagMap getIdOwner(Tag[] tags) {
+        UniqueTagMap idOwner = tags.length == 0 ? null : tags[0].getIdOwner();
+        for (Tag tag : tags) {
+            if (tag.getIdOwner() != idOwner) {
+                return null;
+            }
+        }
+        return idOwner;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}.
+     * If several tags in {@code tags} have the same tag name, only the first of them is kept.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+
+        List<Tag> distinctTags = new ArrayList<>(tags.size());
+        Set<String> tagNames = new HashSet<>();
+        for (Tag tag : tags) {
+            if (tagNames.add(tag.getTagName())) {
+                distinctTags.add(tag);
+            }
+        }
+        return distinctTags.isEmpty() ? EMPTY : new TagSet(distinctTags.toArray(new Tag[0]));
+    }
+
+    /**
+     * Returns a {@code TagSet} with the tags of this set and {@code toAdd}, or this set if it already contains a tag
+     * with the same tag name.
+     */
+    public TagSet with(Tag toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            return this;
+        }
+
+        Tag[] newTags = Arrays.copyOf(tags, tags.length + 1);
+        newTags[tags.length] = toAdd;
+        return new TagSet(newTags);
+    }
+
+    /**
+     * Returns a {@code TagSet} with the tags of this set other than {@code toRemove}, or this set if it does not
+     * contain a tag with the same tag name.
+     */
+    public TagSet without(Tag toRemove) {
+        requireNonNull(toRemove);
+        if (!contains(toRemove)) {
+            return this;
+        }
+
+        Tag[] newTags = new Tag[tags.length - 1];
+        int next = 0;
+        for (Tag tag : tags) {
+            if (!tag.getTagName().equals(toRemove.getTagName())) {
+                newTags[next++] = tag;
+            }
+        }
+        return new TagSet(newTags);
+    }
+
+    /**
+     * Returns the number of tags that are in both this set and {@code other}.
+     */
+    public int countCommon(TagSet other) {
+        requireNonNull(other);
+        if (!isComparableById(other)) {
+            int count = 0;
+            for (Tag tag : tags) {
+                if (other.containsTagName(tag.getTagName())) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        int count = 0;
+        for (int i = Math.min(words.length, other.words.length) - 1; i >= 0; i--) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if at least one tag is in both this set and {@code other}.
+     */
+    public boolean intersects(TagSet other) {
+        requireNonNull(other);
+        if (!isComparableById(other)) {
+            for (Tag tag : tags) {
+                if (other.containsTagName(tag.getTagName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (int i = Math.min(words.length, other.words.length) - 1; i >= 0; i--) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+
+        Tag tag = (Tag) other;
+        if (idOwner == null || tag.getIdOwner() != idOwner) {
+            return containsTagName(tag.getTagName());
+        }
+        int wordIndex = tag.getId() >>> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << tag.getId())) != 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> other) {
+        if (!(other instanceof TagSet) || !isComparableById((TagSet) other)) {
+            return super.containsAll(other);
+        }
+
+        long[] otherWords = ((TagSet) other).words;
+        for (int i = 0; i < otherWords.length; i++) {
+            long word = i < words.length ? words[i] : 0;
+            if ((otherWords[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    /**
+     * Returns true if the tags of this set and {@code other} had their IDs from the same map, so that their bitsets
+     * can be compared.
+     */
+    private boolean isComparableById(TagSet other) {
+        return idOwner != null && idOwner == other.idOwner;
+    }
+
+    private boolean containsTagName(String tagName) {
+        for (Tag tag : tags) {
+            if (tag.getTagName().equals(tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,9 +3,13 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -23,11 +27,26 @@ import seedu.address.model.tag.exceptions.TagNotFoundException;
  * Supports a minimal set of hashmap operations.
  *
  * TagRegistry is a singleton.
+ *
+ * Every tag in the hashmap is also given a dense int ID, which {@link TagSet} uses to store tags as bitsets. IDs are
+ * only meaningful within the hashmap that gave them, so each tag also records which hashmap that was. A tag keeps its
+ * ID while it is added back to the same hashmap, and is given a new one when it is added to another hashmap. The ID of
+ * a tag removed from the hashmap is handed out again to the next tag added, so the IDs in use stay as small as the
+ * number of tags.
  */
 public class UniqueTagMap implements Iterable<Tag> {
+    /** Number of tag names whose keys are cached, beyond which the cache is cleared and filled again. */
+    private static final int MAX_CACHED_KEYS = 4096;
+
     private final ObservableMap<String, Tag> internalHashmap = FXCollections.observableHashMap();
     private final ObservableMap<String, Tag> internalUnmodifiableMap =
             FXCollections.unmodifiableObservableMap(internalHashmap);
+    // The map that changes are made to, which is a plain copy of internalHashmap during a bulk update
+    private Map<String, Tag> contents = internalHashmap;
+    private final Map<String, String> keysByTagName = new HashMap<>();
+    // The IDs of the tags in contents, and the tag given each of them
+    private final BitSet usedIds = new BitSet();
+    private final List<Tag> tagsById = new ArrayList<>();
 
     /**
      * Checks if the hashmap contains an equivalent tag with the same tag name as the given argument.
@@ -38,7 +57,19 @@ public class UniqueTagMap implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalHashmap.containsKey(toCheck.getTagName());
+        return contents.containsKey(toCheck.getTagName());
+    }
+
+    /**
+     * Checks if the hashmap contains a tag with the given tag name, compared case-insensitively.
+     * Looking up a tag name that has been looked up before allocates nothing.
+     *
+     * @param tagName the tag name to check.
+     * @return true if the hashmap contains a tag with the given tag name. false otherwise.
+     */
+    public boolean containsTagName(String tagName) {
+        requireNonNull(tagName);
+        return contents.containsKey(toKey(tagName));
     }
 
     /**
@@ -52,12 +83,12 @@ public class UniqueTagMap implements Iterable<Tag> {
     public Tag get(String tagName) {
         requireNonNull(tagName);
 
-        String upperTagName = tagName.toUpperCase();
-        if (!internalHashmap.containsKey(upperTagName)) {
+        Tag tag = contents.get(toKey(tagName));
+        if (tag == null) {
             throw new TagNotFoundException();
         }
 
-        return internalHashmap.get(upperTagName);
+        return tag;
     }
 
     /**
@@ -72,13 +103,16 @@ public class UniqueTagMap implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
-        internalHashmap.put(toAdd.getTagName(), toAdd);
+        takeId(toAdd, getOwnId(toAdd));
+        contents.put(toAdd.getTagName(), toAdd);
     }
 
     /**
      * Replaces the tag {@code target} in the hashmap with {@code editedTag}.
      * {@code target} must exist in the hashmap.
      * The new key of {@code editedTag} must not be the same as another existing tag in the hashmap.
+     * If {@code editedTag} has no ID from this hashmap yet, it takes over the ID of {@code target}, so that tag sets
+     * holding either of them still agree.
      *
      * @param target the tag to be replaced.
      * @param editedTag the tag to replace the target tag with.
@@ -95,8 +129,10 @@ public class UniqueTagMap implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
+        int id = getOwnId(editedTag) == Tag.NO_ID ? getOwnId(contents.get(target.getTagName())) : getOwnId(editedTag);
         remove(target);
-        add(editedTag);
+        takeId(editedTag, id);
+        contents.put(editedTag.getTagName(), editedTag);
     }
 
     /**
@@ -113,7 +149,7 @@ public class UniqueTagMap implements Iterable<Tag> {
             throw new TagNotFoundException();
         }
 
-        internalHashmap.remove(toRemove.getTagName());
+        releaseId(contents.remove(toRemove.getTagName()));
     }
 
     /**
@@ -129,9 +165,47 @@ public class UniqueTagMap implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
-        internalHashmap.clear();
+        contents.clear();
+        usedIds.clear();
+        tagsById.clear();
+        // Tags with IDs from this hashmap keep them, so they are placed before any tag that needs a new one
+        for (Tag tag : tags) {
+            if (getOwnId(tag) != Tag.NO_ID) {
+                takeId(tag, getOwnId(tag));
+                contents.put(tag.getTagName(), tag);
+            }
+        }
         for (Tag tag : tags) {
-            internalHashmap.put(tag.getTagName(), tag);
+            if (!contents.containsKey(tag.getTagName())) {
+                takeId(tag, Tag.NO_ID);
+                contents.put(tag.getTagName(), tag);
+            }
+        }
+    }
+
+    /**
+     * Starts a bulk update, during which changes to this hashmap are not published to its observable view.
+     * Bulk updates cannot be nested.
+     */
+    public void beginBulkUpdate() {
+        assert contents == internalHashmap : "Bulk updates cannot be nested";
+        contents = new HashMap<>(internalHashmap);
+    }
+
+    /**
+     * Ends the bulk update in progress, publishing to the observable view only the entries that differ from before
+     * it began.
+     */
+    public void endBulkUpdate() {
+        assert contents != internalHashmap : "No bulk update is in progress";
+        Map<String, Tag> updated = contents;
+        contents = internalHashmap;
+
+        internalHashmap.keySet().retainAll(updated.keySet());
+        for (Map.Entry<String, Tag> entry : updated.entrySet()) {
+            if (internalHashmap.get(entry.getKey()) != entry.getValue()) {
+                internalHashmap.put(entry.getKey(), entry.getValue());
+            }
         }
     }
 
@@ -147,17 +221,77 @@ public class UniqueTagMap implements Iterable<Tag> {
 
     @Override
     public Iterator<Tag> iterator() {
-        return internalHashmap.values().iterator();
+        return contents.values().iterator();
     }
 
     @Override
     public int hashCode() {
-        return internalHashmap.hashCode();
+        return contents.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalHashmap.toString();
+        return contents.toString();
+    }
+
+    /**
+     * Returns the key of {@code tagName} in the hashmap, which is the tag name in uppercase.
+     * The key of each tag name is cached, so that looking up the same tag name again does not convert it again.
+     */
+    private String toKey(String tagName) {
+        String key = keysByTagName.get(tagName);
+        if (key != null) {
+            return key;
+        }
+
+        if (keysByTagName.size() >= MAX_CACHED_KEYS) {
+            keysByTagName.clear();
+        }
+        key = tagName.toUpperCase();
+        keysByTagName.put(tagName, key);
+        return key;
+    }
+
+    /**
+     * Returns the ID that this hashmap gave {@code tag}, or {@link Tag#NO_ID} if it was given by another hashmap or
+     * none at all.
+     */
+    private int getOwnId(Tag tag) {
+        return tag.getIdOwner() == this ? tag.getId() : Tag.NO_ID;
+    }
+
+    /**
+     * Gives {@code tag} the ID {@code preferredId} if it is unused, or the lowest unused ID otherwise.
+     */
+    private void takeId(Tag tag, int preferredId) {
+        int id = preferredId != Tag.NO_ID && !usedIds.get(preferredId) ? preferredId : usedIds.nextClearBit(0);
+        tag.setId(this, id);
+        usedIds.set(id);
+        while (tagsById.size() <= id) {
+            tagsById.add(null);
+        }
+        tagsById.set(id, tag);
+    }
+
+    /**
+     * Frees the ID of {@code tag}, which was removed from the hashmap, to be handed out again.
+     */
+    private void releaseId(Tag tag) {
+        // A tag added to another hashmap since has been given a new ID there, so its ID here is found by identity
+        int id = getOwnId(tag);
+        if (id == Tag.NO_ID || tagsById.get(id) != tag) {
+            id = Tag.NO_ID;
+            for (int i = 0; i < tagsById.size(); i++) {
+                if (tagsById.get(i) == tag) {
+                    id = i;
+                    break;
+                }
+            }
+        }
+        if (id != Tag.NO_ID) {
+            usedIds.clear(id);
+            tagsById.set(id, null);
+        }
     }
 
     /**
@@ -0,0 +1,238 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.HouseNumber;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
+import seedu.address.model.listing.PropertyName;
+import seedu.address.model.listing.UnitNumber;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic address books of any size, for reproducing performance problems at scale in tests, benchmarks
+ * and data files. The same seed and sizes always generate the same address book.
+ *
+ * Every person has between one and four preferences, and every listing between one and two owners. Tags are picked
+ * from a vocabulary of {@value #TAG_COUNT} tags following a Zipf distribution, so that a few tags are very common and
+ * most are rare, as on real listings. About one in ten price ranges is open at one end, and some preferences have no
+ * price range at all.
+ */
+public class AddressBookGenerator {
+
+    /** The seed used when none is given. */
+    public static final long DEFAULT_SEED = 42;
+
+    /** The number of tags in the vocabulary tags are picked from. */
+    public static final int TAG_COUNT = 100;
+
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final int MAX_PREFERENCES_PER_PERSON = 4;
+    private static final int MAX_TAGS_PER_ELEMENT = 4;
+    private static final int MAX_OWNERS_PER_LISTING = 2;
+
+    // Phone numbers are 8 digits starting with 8 or 9, spread over that range by a multiplier coprime with its size
+    private static final int PHONE_RANGE_START = 80_000_000;
+    private static final int PHONE_RANGE_SIZE = 20_000_000;
+    private static final long PHONE_MULTIPLIER = 7_919;
+
+    private static final String[] COMMON_TAG_NAMES = {"pool", "gym", "near mrt", "hdb", "condo", "high floor",
+        "renovated", "corner unit", "pet-friendly", "freehold", "near school", "balcony", "landed", "sea view",
+        "city view", "quiet", "bbq pit", "playground", "walk-in wardrobe", "near park", "new launch", "move-in ready",
+        "dual key", "penthouse", "near hawker", "greenery", "low floor", "study room", "en-suite", "tennis court"};
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti",
+        "Wei Ming", "Priya", "Marcus", "Hui Min", "Ahmad", "Grace", "Rajesh", "Mei Ling", "Daniel", "Nur", "Kumar",
+        "Sarah", "Jun Jie"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Goh", "Chua", "Rahman", "Nair", "Lee", "Teo", "Koh", "Pillai", "Ong", "Ho"};
+    private static final String[] PROPERTY_NAMES = {"The Sail", "Marina One", "Reflections at Keppel Bay",
+        "Sky Habitat", "The Interlace", "Pinnacle at Duxton", "Parc Esta", "Treasure at Tampines", "Jewel Residences",
+        "Lakeside Grove"};
+
+    private final Random random;
+    private final double[] tagCumulativeWeights = new double[TAG_COUNT];
+    private final List<Tag> tags = new ArrayList<>(TAG_COUNT);
+    private final Set<String> listingIdentities = new HashSet<>();
+    private final AddressBook addressBook = new AddressBook();
+
+    private AddressBookGenerator(long seed) {
+        random = new Random(seed);
+
+        double totalWeight = 0;
+        for (int rank = 0; rank < TAG_COUNT; rank++) {
+            totalWeight += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            tagCumulativeWeights[rank] = totalWeight;
+        }
+        for (int rank = 0; rank < TAG_COUNT; rank++) {
+            tagCumulativeWeights[rank] /= totalWeight;
+        }
+    }
+
+    /**
+     * Returns an address book with {@code size} persons and {@code size} listings, generated with
+     * {@link #DEFAULT_SEED}.
+     */
+    public static AddressBook generate(int size) {
+        return generate(size, size, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons and {@code listingCount} listings, generated with
+     * {@code seed}. Listings can only be generated if there are persons to own them.
+     */
+    public static AddressBook generate(int personCount, int listingCount, long seed) {
+        checkArgument(personCount >= 0 && personCount <= PHONE_RANGE_SIZE, "Invalid number of persons");
+        checkArgument(listingCount >= 0, "Invalid number of listings");
+        checkArgument(personCount > 0 || listingCount == 0, "Listings need persons to own them");
+        return new AddressBookGenerator(seed).build(personCount, listingCount);
+    }
+
+    /**
+     * Returns the name of the tag at {@code rank} in the vocabulary, where lower ranks are picked more often.
+     */
+    public static String getTagName(int rank) {
+        checkArgument(rank >= 0 && rank < TAG_COUNT, "Invalid tag rank");
+        return (rank < COMMON_TAG_NAMES.length ? COMMON_TAG_NAMES[rank] : "feature " + rank).toUpperCase();
+    }
+
+    private AddressBook build(int personCount, int listingCount) {
+        addressBook.beginBulkUpdate();
+
+        for (int rank = 0; rank < TAG_COUNT; rank++) {
+            addressBook.addTag(getTagName(rank));
+            tags.add(addressBook.getTag(getTagName(rank)));
+        }
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Person person = createPerson(i);
+            persons.add(person);
+            addressBook.addPerson(person);
+        }
+
+        for (int i = 0; i < listingCount; i++) {
+            addressBook.addListing(createListing(persons));
+        }
+
+        addressBook.endBulkUpdate();
+        return addressBook;
+    }
+
+    private Person createPerson(int index) {
+        String firstName = pick(FIRST_NAMES);
+        String lastName = pick(LAST_NAMES);
+        String phone = String.valueOf(PHONE_RANGE_START + index * PHONE_MULTIPLIER % PHONE_RANGE_SIZE);
+        String email = (firstName + "." + lastName).replace(' ', '.').toLowerCase() + index + "@example.com";
+        Person person = new Person(new Name(firstName + " " + lastName), new Phone(phone), new Email(email),
+                new ArrayList<>(), new ArrayList<>());
+
+        int preferenceCount = 1 + random.nextInt(MAX_PREFERENCES_PER_PERSON);
+        for (int i = 0; i < preferenceCount; i++) {
+            PriceRange priceRange = random.nextInt(20) == 0 ? new PriceRange() : createPriceRange();
+            PropertyPreference preference = new PropertyPreference(priceRange, new HashSet<>(), person);
+            for (Tag tag : pickTags()) {
+                preference.addTag(tag);
+                tag.addPropertyPreference(preference);
+                addressBook.setTag(tag, tag);
+            }
+            person.addPropertyPreference(preference);
+        }
+        return person;
+    }
+
+    private Listing createListing(List<Person> persons) {
+        PostalCode postalCode;
+        UnitNumber unitNumber = null;
+        HouseNumber houseNumber = null;
+        PropertyName propertyName = null;
+        String identity;
+        do {
+            postalCode = new PostalCode(String.format("%06d", random.nextInt(1_000_000)));
+            if (random.nextInt(5) == 0) {
+                unitNumber = null;
+                houseNumber = new HouseNumber(String.valueOf(10 + random.nextInt(990)));
+            } else {
+                houseNumber = null;
+                unitNumber = new UnitNumber(String.format("%02d-%d", 10 + random.nextInt(40),
+                        10 + random.nextInt(990)));
+            }
+            identity = postalCode.postalCode + "/" + (unitNumber != null ? unitNumber.unitNumber : "")
+                    + "/" + (houseNumber != null ? houseNumber.houseNumber : "");
+        } while (!listingIdentities.add(identity));
+
+        if (random.nextInt(3) == 0) {
+            propertyName = new PropertyName(pick(PROPERTY_NAMES));
+        }
+
+        List<Person> owners = new ArrayList<>();
+        int ownerCount = Math.min(persons.size(), 1 + random.nextInt(MAX_OWNERS_PER_LISTING));
+        while (owners.size() < ownerCount) {
+            Person owner = persons.get(random.nextInt(persons.size()));
+            if (!owners.contains(owner)) {
+                owners.add(owner);
+            }
+        }
+
+        Listing listing = Listing.of(postalCode, unitNumber, houseNumber, createPriceRange(), propertyName,
+                new HashSet<>(), owners, random.nextInt(5) != 0);
+        for (Tag tag : pickTags()) {
+            listing.addTag(tag);
+            tag.addListing(listing);
+            addressBook.setTag(tag, tag);
+        }
+        for (Person owner : owners) {
+            owner.addListing(listing);
+        }
+        return listing;
+    }
+
+    /**
+     * Returns up to {@value #MAX_TAGS_PER_ELEMENT} distinct tags, each picked by its rank in the Zipf distribution.
+     */
+    private Set<Tag> pickTags() {
+        Set<Tag> picked = new HashSet<>();
+        int count = random.nextInt(MAX_TAGS_PER_ELEMENT + 1);
+        while (picked.size() < count) {
+            int rank = Arrays.binarySearch(tagCumulativeWeights, random.nextDouble());
+            picked.add(tags.get(Math.min(rank < 0 ? -rank - 1 : rank, TAG_COUNT - 1)));
+        }
+        return picked;
+    }
+
+    /**
+     * Returns a price range within $200,000 to $5,000,000 in steps of $1,000, where about one in ten is open at the
+     * top or at the bottom.
+     */
+    private PriceRange createPriceRange() {
+        long lower = 200_000 + 1_000L * random.nextInt(3_000);
+        long upper = lower + 1_000L * random.nextInt(1_800);
+        switch (random.nextInt(20)) {
+        case 0:
+            return new PriceRange(new Price(String.valueOf(upper)), true);
+        case 1:
+            return new PriceRange(new Price(String.valueOf(lower)), false);
+        default:
+            return new PriceRange(new Price(String.valueOf(lower)), new Price(String.valueOf(upper)));
+        }
+    }
+
+    private String pick(String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
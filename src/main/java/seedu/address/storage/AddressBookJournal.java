@@ -0,0 +1,525 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An append-only journal of the changes made to an address book since its snapshot file was last written, kept in a
+ * file beside the snapshot. Saving the address book appends the changes made since the last save instead of
+ * rewriting the snapshot, so that the cost of a save grows with the size of the change and not of the address book.
+ *
+ * Each line of the journal is a {@link JsonAdaptedJournalEntry} with a sequence number one higher than the line
+ * before it, and each snapshot records the sequence number of the last entry it includes. Reading the address book
+ * applies only the entries after that, so a snapshot and journal left behind by a crash at any point read back
+ * consistently.
+ *
+ * Once the journal grows past a threshold, it is folded into a fresh snapshot in the background, and the entries
+ * appended meanwhile are carried over into a new journal on the next save.
+ *
+ * A save is made in two steps, so that the files can be written on another thread than the one changing the address
+ * book. The thread that changes the address book captures it, by encoding its changes or the whole of it, and the
+ * writing thread later writes everything captured since its last write in one go.
+ */
+class AddressBookJournal {
+
+    static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 4L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Path snapshotFilePath;
+    private final Path journalFilePath;
+    private final boolean isPrettyPrinted;
+    private final long compactionThresholdBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Used only by the thread that captures the address book
+    private final List<Change> pendingChanges = new ArrayList<>();
+    private final ListChangeListener<Person> personListener =
+            change -> recordListChange(JsonAdaptedJournalEntry.SECTION_PERSONS, change);
+    private final ListChangeListener<Listing> listingListener =
+            change -> recordListChange(JsonAdaptedJournalEntry.SECTION_LISTINGS, change);
+    private final MapChangeListener<String, Tag> tagListener = this::recordTagChange;
+    private ReadOnlyAddressBook trackedAddressBook;
+    private long lastSequence;
+    private boolean isLastSequenceKnown;
+
+    // Handed from the capturing thread to the writing thread, guarded by this journal
+    private final ByteArrayOutputStream capturedEntries = new ByteArrayOutputStream();
+    private byte[] capturedSnapshot;
+    private long capturedSequence;
+    private boolean isBroken;
+
+    // Used only by the writing thread
+    private long writtenSequence;
+    private long journalSize;
+    private Future<?> compaction;
+    private long compactedJournalSize;
+
+    /**
+     * Constructs an {@code AddressBookJournal} for the snapshot at {@code snapshotFilePath}.
+     *
+     * @param isPrettyPrinted          whether to indent snapshots for reading, instead of writing them compactly.
+     * @param compactionThresholdBytes the size the journal may grow to before it is folded into the snapshot.
+     */
+    AddressBookJournal(Path snapshotFilePath, boolean isPrettyPrinted, long compactionThresholdBytes) {
+        requireNonNull(snapshotFilePath);
+        this.snapshotFilePath = snapshotFilePath;
+        this.journalFilePath = getJournalFilePath(snapshotFilePath);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    /**
+     * Returns the path of the journal kept beside the snapshot at {@code snapshotFilePath}.
+     */
+    static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Returns true if there is a non-empty journal beside the snapshot at {@code snapshotFilePath}.
+     */
+    static boolean hasJournal(Path snapshotFilePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+        return Files.exists(journalFilePath) && Files.size(journalFilePath) > 0;
+    }
+
+    /**
+     * Reads the snapshot at {@code snapshotFilePath} and applies the entries of the journal beside it.
+     * An entry that cannot be read, as is left by a crash while it was being appended, ends the journal.
+     *
+     * @throws IOException if the snapshot or the journal cannot be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook replay(Path snapshotFilePath) throws IOException, IllegalValueException {
+        return replay(snapshotFilePath, Long.MAX_VALUE);
+    }
+
+    /**
+     * Similar to {@link #replay(Path)}, but applies only the entries up to {@code lastSequence}.
+     */
+    private static AddressBook replay(Path snapshotFilePath, long lastSequence)
+            throws IOException, IllegalValueException {
+        JsonSerializableAddressBook addressBook;
+        try (JsonParser parser = JsonUtil.createParser(
+                new BufferedInputStream(Files.newInputStream(snapshotFilePath)))) {
+            addressBook = JsonUtil.readValue(parser, JsonSerializableAddressBook.class);
+        }
+
+        int appliedCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(getJournalFilePath(snapshotFilePath),
+                StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring the rest of the journal from an unreadable entry: " + e);
+                    break;
+                }
+
+                if (entry.getSequence() > addressBook.getJournalSequence()) {
+                    entry.applyTo(addressBook);
+                    appliedCount++;
+                }
+                if (entry.getSequence() >= lastSequence) {
+                    break;
+                }
+            }
+        }
+
+        logger.info("Applied " + appliedCount + " journal entries to " + snapshotFilePath);
+        return addressBook.toModelType();
+    }
+
+    /**
+     * Writes {@code addressBook} to the snapshot, replacing any journal, and starts journaling its changes.
+     * Waits for any compaction in progress to finish first.
+     *
+     * @throws IOException if the snapshot cannot be written.
+     */
+    void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        captureSnapshot(addressBook);
+        writeCaptured();
+    }
+
+    /**
+     * Captures the whole of {@code addressBook} to replace the snapshot on the next write, superseding any changes
+     * captured before, and starts journaling its changes.
+     */
+    void captureSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        stopTracking();
+
+        if (!isLastSequenceKnown) {
+            // The snapshot must include every entry already in the journal, so that none of them is applied again
+            lastSequence = Math.max(lastSequence, readLastSequence(journalFilePath));
+            isLastSequenceKnown = true;
+        }
+        byte[] snapshot = JsonAddressBookWriter.encode(addressBook, isPrettyPrinted, lastSequence);
+
+        synchronized (this) {
+            capturedSnapshot = snapshot;
+            capturedEntries.reset();
+            capturedSequence = lastSequence;
+            isBroken = false;
+        }
+
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getListingList().addListener(listingListener);
+        addressBook.getTagMap().addListener(tagListener);
+    }
+
+    /**
+     * Writes {@code addressBook} to the snapshot at {@code snapshotFilePath}, replacing any journal beside it.
+     *
+     * @param lastSequence the sequence number of the last entry known to have been journaled.
+     * @return the sequence number recorded in the snapshot.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    static long writeSnapshot(ReadOnlyAddressBook addressBook, Path snapshotFilePath, boolean isPrettyPrinted,
+            long lastSequence) throws IOException {
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+
+        // The snapshot must include every entry already in the journal, so that none of them is applied again
+        long snapshotSequence = Math.max(lastSequence, readLastSequence(journalFilePath));
+        JsonAddressBookWriter.write(addressBook, snapshotFilePath, isPrettyPrinted, snapshotSequence);
+        Files.deleteIfExists(journalFilePath);
+        return snapshotSequence;
+    }
+
+    /**
+     * Returns true if the changes to {@code addressBook} are being journaled.
+     * Once a write has failed, no address book is tracked until a new snapshot is captured.
+     */
+    synchronized boolean isTracking(ReadOnlyAddressBook addressBook) {
+        return addressBook == trackedAddressBook && !isBroken;
+    }
+
+    /**
+     * Appends the changes made to the tracked address book since the last save to the journal, and starts folding
+     * the journal into the snapshot if it has grown past the threshold.
+     *
+     * @throws IOException if the journal cannot be written.
+     */
+    void appendChanges() throws IOException {
+        captureChanges();
+        writeCaptured();
+    }
+
+    /**
+     * Captures the changes made to the tracked address book since they were last captured, to be appended to the
+     * journal on the next write.
+     */
+    void captureChanges() throws IOException {
+        assert trackedAddressBook != null : "No address book is being journaled";
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        byte[] entries = encodePendingChanges();
+        synchronized (this) {
+            capturedEntries.write(entries);
+            capturedSequence = lastSequence;
+        }
+        pendingChanges.clear();
+    }
+
+    /**
+     * Writes the snapshot and journal entries captured since the last write, and starts folding the journal into the
+     * snapshot if it has grown past the threshold.
+     * If the write fails, the changes captured from then on are dropped until a new snapshot is captured, as the
+     * journal would otherwise miss the changes that failed to be written.
+     *
+     * @return the number of bytes written to the snapshot and the journal.
+     * @throws IOException if the snapshot or the journal cannot be written.
+     */
+    long writeCaptured() throws IOException {
+        byte[] snapshot;
+        byte[] entries;
+        long sequence;
+        synchronized (this) {
+            if (isBroken && capturedSnapshot == null) {
+                capturedEntries.reset();
+                return 0;
+            }
+            snapshot = capturedSnapshot;
+            entries = capturedEntries.toByteArray();
+            sequence = capturedSequence;
+            capturedSnapshot = null;
+            capturedEntries.reset();
+        }
+
+        try {
+            if (snapshot != null) {
+                awaitCompaction();
+                JsonAddressBookWriter.write(snapshot, snapshotFilePath);
+                Files.deleteIfExists(journalFilePath);
+                journalSize = 0;
+            } else {
+                carryOverAfterCompaction();
+            }
+
+            if (entries.length > 0) {
+                try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(entries);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                journalSize += entries.length;
+            }
+            writtenSequence = sequence;
+        } catch (IOException e) {
+            synchronized (this) {
+                isBroken = true;
+            }
+            throw e;
+        }
+
+        if (journalSize >= compactionThresholdBytes && compaction == null) {
+            startCompaction();
+        }
+        return (snapshot == null ? 0 : snapshot.length) + entries.length;
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish, and carries over the entries appended meanwhile.
+     */
+    void awaitCompaction() throws IOException {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // The journal is still complete, so the compaction is simply tried again later
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + e.getCause());
+        }
+        carryOverAfterCompaction();
+    }
+
+    private void startCompaction() {
+        long compactedSequence = writtenSequence;
+        compactedJournalSize = journalSize;
+        logger.info("Compacting journal " + journalFilePath + " up to entry " + compactedSequence);
+
+        compaction = compactor.submit(() -> {
+            AddressBook compacted = replay(snapshotFilePath, compactedSequence);
+            JsonAddressBookWriter.write(compacted, snapshotFilePath, isPrettyPrinted, compactedSequence);
+            return null;
+        });
+    }
+
+    /**
+     * Once the compaction in progress has finished, replaces the journal with the entries appended after the point it
+     * compacted up to.
+     */
+    private void carryOverAfterCompaction() throws IOException {
+        if (compaction == null || !compaction.isDone()) {
+            return;
+        }
+
+        boolean isCompacted;
+        try {
+            compaction.get();
+            isCompacted = true;
+        } catch (InterruptedException | ExecutionException e) {
+            isCompacted = false;
+        }
+        compaction = null;
+        if (!isCompacted) {
+            return;
+        }
+
+        Path tempFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName() + TEMP_FILE_EXTENSION);
+        try (FileChannel source = FileChannel.open(journalFilePath, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long remaining = journalSize - compactedJournalSize;
+            long position = compactedJournalSize;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, target);
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+
+        FileUtil.replaceFile(tempFilePath, journalFilePath);
+        journalSize -= compactedJournalSize;
+        compactedJournalSize = 0;
+    }
+
+    private void stopTracking() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getListingList().removeListener(listingListener);
+            trackedAddressBook.getTagMap().removeListener(tagListener);
+            trackedAddressBook = null;
+        }
+        pendingChanges.clear();
+    }
+
+    private void recordListChange(String section, ListChangeListener.Change<?> change) {
+        while (change.next()) {
+            // The lists of an address book are never permuted, only added to, removed from and replaced in
+            pendingChanges.add(new Change(section, change.getFrom(), change.getRemovedSize(),
+                    new ArrayList<>(change.getAddedSubList()), List.of()));
+        }
+    }
+
+    private void recordTagChange(MapChangeListener.Change<? extends String, ? extends Tag> change) {
+        List<String> removedTagNames = change.wasRemoved() ? List.of(change.getKey()) : List.of();
+        List<String> addedTagNames = change.wasAdded() ? List.of(change.getKey()) : List.of();
+        pendingChanges.add(new Change(JsonAdaptedJournalEntry.SECTION_TAGS, 0, 0, addedTagNames, removedTagNames));
+    }
+
+    /**
+     * Encodes the pending changes as journal entries, one per line.
+     * Persons and listings are encoded as they are now rather than as they were when changed, so that changes made to
+     * them in place since then are also recorded.
+     */
+    private byte[] encodePendingChanges() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long sequence = lastSequence;
+        for (Change change : pendingChanges) {
+            sequence++;
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                writeEntry(generator, change, sequence);
+            }
+            out.write('\n');
+        }
+        lastSequence = sequence;
+        return out.toByteArray();
+    }
+
+    private static void writeEntry(JsonGenerator generator, Change change, long sequence) throws IOException {
+        JsonAddressBookWriter writer = new JsonAddressBookWriter(generator);
+
+        generator.writeStartObject();
+        generator.writeNumberField("sequence", sequence);
+        generator.writeStringField("section", change.section);
+
+        switch (change.section) {
+        case JsonAdaptedJournalEntry.SECTION_PERSONS:
+            generator.writeNumberField("from", change.from);
+            generator.writeNumberField("removed", change.removedCount);
+            generator.writeArrayFieldStart("persons");
+            for (Object person : change.added) {
+                writer.writePerson((Person) person);
+            }
+            generator.writeEndArray();
+            break;
+        case JsonAdaptedJournalEntry.SECTION_LISTINGS:
+            generator.writeNumberField("from", change.from);
+            generator.writeNumberField("removed", change.removedCount);
+            generator.writeArrayFieldStart("listings");
+            for (Object listing : change.added) {
+                writer.writeListing((Listing) listing);
+            }
+            generator.writeEndArray();
+            break;
+        default:
+            generator.writeArrayFieldStart("removedTags");
+            for (String tagName : change.removedTagNames) {
+                generator.writeString(tagName);
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("addedTags");
+            for (Object tagName : change.added) {
+                generator.writeString((String) tagName);
+            }
+            generator.writeEndArray();
+            break;
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns the sequence number of the last readable entry in the journal at {@code journalFilePath}, or 0 if
+     * there is none.
+     */
+    private static long readLastSequence(Path journalFilePath) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        long lastSequence = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    lastSequence = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).getSequence();
+                } catch (IOException e) {
+                    break;
+                }
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Represents a change to one section of the tracked address book that has yet to be appended to the journal.
+     */
+    private static class Change {
+        private final String section;
+        private final int from;
+        private final int removedCount;
+        private final List<?> added;
+        private final List<String> removedTagNames;
+
+        Change(String section, int from, int removedCount, List<?> added, List<String> removedTagNames) {
+            this.section = section;
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+            this.removedTagNames = removedTagNames;
+        }
+    }
+}
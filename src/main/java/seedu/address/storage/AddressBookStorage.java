@@ -42,4 +42,27 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the given {@link ReadOnlyAddressBook} as it is now, to be saved to the storage by the next call to
+     * {@link #writeCapturedAddressBook()}. That call may be made from another thread while the address book goes on
+     * changing, but captures must all be made from the thread that changes it.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem capturing the address book.
+     */
+    void captureAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Writes the address books captured since the last call to the storage, if any.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void writeCapturedAddressBook() throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} for the last time before the app exits, leaving the storage in the
+     * form that is quickest to read back at the next launch.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void closeAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
@@ -0,0 +1,349 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.HouseNumber;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
+import seedu.address.model.listing.PropertyName;
+import seedu.address.model.listing.UnitNumber;
+import seedu.address.model.listing.exceptions.DuplicateListingException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an address book from a binary snapshot written by {@link BinaryAddressBookWriter}.
+ *
+ * The snapshot is read into memory in one go and the file closed straight away, so that it can be replaced by the next
+ * save on every platform. It is not memory-mapped, as a mapping is only released once it is garbage collected, and
+ * Windows does not replace a file while it is mapped. Its strings, tags and persons are each decoded when they are
+ * first reached and then shared by everything that refers to them, so no part of the snapshot is decoded twice.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "The file is not an address book snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The snapshot has an unsupported version: %1$d";
+    public static final String MESSAGE_CORRUPTED = "The snapshot is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookReader.class);
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final AddressBook addressBook = new AddressBook();
+    // Used by snapshots that refer to tags by the string reference of their name and to owners by phone number
+    private final Map<Integer, Tag> tagsByNameReference = new HashMap<>();
+    private final Map<String, Person> personsByPhone = new HashMap<>();
+
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+    private final String[] strings;
+    private final int tagsStart;
+    private final Tag[] tags;
+    private final int personOffsetsStart;
+    private final Person[] persons;
+    private final int listingOffsetsStart;
+    private final int listingCount;
+
+    /**
+     * Constructs a {@code BinaryAddressBookReader} over the snapshot in {@code buffer}, reading only where each of its
+     * sections starts.
+     *
+     * @throws IllegalValueException if {@code buffer} does not hold a snapshot of the supported version.
+     */
+    private BinaryAddressBookReader(ByteBuffer buffer) throws IllegalValueException {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != BinaryAddressBookWriter.MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        version = buffer.getInt(Integer.BYTES);
+        if (version != BinaryAddressBookWriter.VERSION && version != BinaryAddressBookWriter.INDEXED_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int position = Integer.BYTES * 2;
+        int stringCount = readCount(position);
+        stringOffsetsStart = position + Integer.BYTES;
+        stringDataStart = stringOffsetsStart + Integer.BYTES * (stringCount + 1);
+        strings = new String[stringCount];
+
+        position = stringDataStart + buffer.getInt(stringOffsetsStart + Integer.BYTES * stringCount);
+        int tagCount = readCount(position);
+        tagsStart = position + Integer.BYTES;
+        tags = new Tag[tagCount];
+
+        position = tagsStart + Integer.BYTES * tagCount;
+        int personCount = readCount(position);
+        personOffsetsStart = position + Integer.BYTES;
+        persons = new Person[personCount];
+
+        position = personOffsetsStart + Integer.BYTES * personCount;
+        listingCount = readCount(position);
+        listingOffsetsStart = position + Integer.BYTES;
+    }
+
+    /**
+     * Reads the address book in the binary snapshot at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a valid snapshot or there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        long startTime = System.nanoTime();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+
+        try {
+            BinaryAddressBookReader reader = new BinaryAddressBookReader(buffer);
+            AddressBook addressBook = reader.readAddressBook();
+            logger.info(String.format("Loaded %1$d tags, %2$d persons and %3$d listings from %4$s in %5$d ms",
+                    reader.tags.length, reader.persons.length, reader.listingCount, filePath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            return addressBook;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        } catch (IllegalArgumentException | DuplicatePersonException | DuplicateListingException e) {
+            throw new IllegalValueException(getMessage(e), e);
+        }
+    }
+
+    private static String getMessage(RuntimeException e) {
+        if (e instanceof DuplicatePersonException) {
+            return JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+        } else if (e instanceof DuplicateListingException) {
+            return JsonSerializableAddressBook.MESSAGE_DUPLICATE_LISTING;
+        } else {
+            return e.getMessage();
+        }
+    }
+
+    private AddressBook readAddressBook() throws IllegalValueException {
+        addressBook.beginBulkUpdate();
+        try {
+            for (int i = 0; i < tags.length; i++) {
+                getTag(i);
+            }
+            for (int i = 0; i < persons.length; i++) {
+                Person person = getPerson(i);
+                addressBook.addPerson(person);
+                personsByPhone.put(person.getPhone().value, person);
+            }
+            for (int i = 0; i < listingCount; i++) {
+                addressBook.addListing(readListing(buffer.getInt(listingOffsetsStart + Integer.BYTES * i)));
+            }
+        } finally {
+            addressBook.endBulkUpdate();
+        }
+        return addressBook;
+    }
+
+    private int readCount(int position) throws IllegalValueException {
+        int count = buffer.getInt(position);
+        // Every counted element takes at least as much room as an int, which bounds what the arrays are sized to
+        if (count < 0 || count > buffer.capacity() / Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the string with the given reference, or null for {@link BinaryAddressBookWriter#NO_REFERENCE}.
+     */
+    private String getString(int reference) {
+        if (reference == BinaryAddressBookWriter.NO_REFERENCE) {
+            return null;
+        }
+
+        if (strings[reference] == null) {
+            int start = buffer.getInt(stringOffsetsStart + Integer.BYTES * reference);
+            int end = buffer.getInt(stringOffsetsStart + Integer.BYTES * (reference + 1));
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringDataStart + start, bytes);
+            strings[reference] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings[reference];
+    }
+
+    /**
+     * Returns the string with the given reference, which must not be {@link BinaryAddressBookWriter#NO_REFERENCE}.
+     */
+    private String getRequiredString(int reference) throws IllegalValueException {
+        String string = getString(reference);
+        if (string == null) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return string;
+    }
+
+    private Tag getTag(int index) throws IllegalValueException {
+        if (tags[index] == null) {
+            int nameReference = buffer.getInt(tagsStart + Integer.BYTES * index);
+            String tagName = getRequiredString(nameReference);
+            addressBook.addTag(tagName);
+            tags[index] = addressBook.getTag(tagName);
+            tagsByNameReference.put(nameReference, tags[index]);
+        }
+        return tags[index];
+    }
+
+    /**
+     * Returns the tag that a record refers to with {@code reference}, which is the index of the tag among the tags in
+     * snapshots of {@link BinaryAddressBookWriter#INDEXED_VERSION}, and the string reference of its name otherwise.
+     */
+    private Tag getReferencedTag(int reference) throws IllegalValueException {
+        if (version == BinaryAddressBookWriter.INDEXED_VERSION) {
+            return getTag(reference);
+        }
+
+        Tag tag = tagsByNameReference.get(reference);
+        if (tag == null) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the owner that a record refers to with {@code reference}, which is the index of the owner among the
+     * persons in snapshots of {@link BinaryAddressBookWriter#INDEXED_VERSION}, and the string reference of their phone
+     * number otherwise. Returns null if no person has that phone number.
+     */
+    private Person getReferencedOwner(int reference) throws IllegalValueException {
+        if (version == BinaryAddressBookWriter.INDEXED_VERSION) {
+            return getPerson(reference);
+        }
+        return personsByPhone.get(getRequiredString(reference));
+    }
+
+    private Person getPerson(int index) throws IllegalValueException {
+        if (persons[index] == null) {
+            persons[index] = readPerson(buffer.getInt(personOffsetsStart + Integer.BYTES * index));
+        }
+        return persons[index];
+    }
+
+    private Person readPerson(int offset) throws IllegalValueException {
+        ByteBuffer record = buffer.duplicate().position(offset);
+        Name name = new Name(getRequiredString(record.getInt()));
+        Phone phone = new Phone(getRequiredString(record.getInt()));
+        Email email = new Email(getRequiredString(record.getInt()));
+        Person person = new Person(name, phone, email, new ArrayList<>(), new ArrayList<>());
+
+        int preferenceCount = record.getInt();
+        for (int i = 0; i < preferenceCount; i++) {
+            PropertyPreference preference = new PropertyPreference(readPriceRange(record), new HashSet<>(), person);
+            for (Tag tag : readTags(record)) {
+                preference.addTag(tag);
+                tag.addPropertyPreference(preference);
+            }
+            person.addPropertyPreference(preference);
+        }
+        return person;
+    }
+
+    private Listing readListing(int offset) throws IllegalValueException {
+        ByteBuffer record = buffer.duplicate().position(offset);
+        PostalCode postalCode = new PostalCode(getRequiredString(record.getInt()));
+        String unitNumber = getString(record.getInt());
+        String houseNumber = getString(record.getInt());
+        String propertyName = getString(record.getInt());
+        PriceRange priceRange = readPriceRange(record);
+        boolean isAvailable = record.get() != 0;
+        List<Tag> listingTags = readTags(record);
+
+        // Owners that are not in the address book are dropped, as they are when reading a JSON file
+        int ownerCount = record.getInt();
+        List<Person> owners = new ArrayList<>(ownerCount);
+        for (int i = 0; i < ownerCount; i++) {
+            Person owner = getReferencedOwner(record.getInt());
+            if (owner != null) {
+                owners.add(owner);
+            }
+        }
+
+        if (unitNumber == null && houseNumber == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedListing.MISSING_FIELD_MESSAGE_FORMAT,
+                    "Postal Code or Unit Number"));
+        }
+        Listing listing = Listing.of(postalCode,
+                unitNumber != null ? new UnitNumber(unitNumber) : null,
+                houseNumber != null ? new HouseNumber(houseNumber) : null,
+                priceRange,
+                propertyName != null ? new PropertyName(propertyName) : null,
+                new HashSet<>(),
+                owners,
+                isAvailable);
+
+        for (Tag tag : listingTags) {
+            listing.addTag(tag);
+            tag.addListing(listing);
+        }
+        for (Person owner : owners) {
+            owner.addListing(listing);
+        }
+        return listing;
+    }
+
+    private List<Tag> readTags(ByteBuffer record) throws IllegalValueException {
+        int tagCount = record.getInt();
+        List<Tag> recordTags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            recordTags.add(getReferencedTag(record.getInt()));
+        }
+        return recordTags;
+    }
+
+    private static PriceRange readPriceRange(ByteBuffer record) {
+        Price lower = readPrice(record);
+        Price upper = readPrice(record);
+
+        if (lower != null && upper != null) {
+            return new PriceRange(lower, upper);
+        } else if (lower != null) {
+            return new PriceRange(lower, false);
+        } else if (upper != null) {
+            return new PriceRange(upper, true);
+        } else {
+            return new PriceRange();
+        }
+    }
+
+    private static Price readPrice(ByteBuffer record) {
+        long cents = record.getLong();
+        byte fractionDigits = record.get();
+        if (fractionDigits == BinaryAddressBookWriter.NO_PRICE) {
+            return null;
+        }
+
+        try {
+            return new Price(BigDecimal.valueOf(cents, 2).setScale(fractionDigits).toPlainString());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(Price.MESSAGE_CONSTRAINTS, e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot, which loads much faster than a JSON file.
+ * JSON stays the format for exchanging address books: an address book is imported from the JSON file of
+ * {@code interchangeStorage} while there is no snapshot yet, and saving to any file other than the snapshot exports the
+ * address book there as JSON. The JSON file is also brought up to date with the snapshot when the address book is
+ * closed, so that switching back to the JSON format loses no changes.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String SNAPSHOT_EXTENSION = ".bin";
+
+    private final Path filePath;
+    private final JsonAddressBookStorage interchangeStorage;
+    private final BinaryAddressBookWriter writer = new BinaryAddressBookWriter();
+    private BinaryAddressBookWriter.Snapshot capturedSnapshot;
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} for the snapshot at {@code filePath}.
+     *
+     * @param interchangeStorage the storage of the JSON file to import from and export with.
+     */
+    public BinaryAddressBookStorage(Path filePath, JsonAddressBookStorage interchangeStorage) {
+        requireNonNull(filePath);
+        requireNonNull(interchangeStorage);
+        this.filePath = filePath;
+        this.interchangeStorage = interchangeStorage;
+    }
+
+    /**
+     * Returns the path of the snapshot kept beside the JSON file at {@code jsonFilePath}, which has the same name
+     * with a {@code .bin} extension in place of {@code .json}.
+     */
+    public static Path getSnapshotFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + SNAPSHOT_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If {@code filePath} is the snapshot of this storage and does not exist yet, the address book is imported from
+     * the JSON file instead, and written to the snapshot so that it is read from there from then on.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return filePath.equals(this.filePath) ? importAddressBook() : Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookReader.read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> importAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = interchangeStorage.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return addressBook;
+        }
+
+        logger.info("Imported " + interchangeStorage.getAddressBookFilePath() + ", writing it to " + filePath);
+        try {
+            saveAddressBook(addressBook.get(), filePath);
+        } catch (IOException ioe) {
+            // The address book is still imported, and is written again on the next save
+            logger.warning("Failed to write " + filePath + ": " + ioe);
+        }
+        return addressBook;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Once {@code addressBook} has been saved, later saves of it only encode the persons and listings changed since.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        captureAddressBook(addressBook);
+        writeCapturedAddressBook();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but always encodes the whole address book, and exports
+     * it as JSON if {@code filePath} is not the snapshot of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            interchangeStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        FileUtil.createIfMissing(filePath);
+        BinaryAddressBookWriter.write(BinaryAddressBookWriter.encode(addressBook), filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the persons and listings changed since {@code addressBook} was last captured are encoded, unless it has yet
+     * to be captured, in which case the whole of it is. The snapshot is put together from them when it is written,
+     * replacing any snapshot captured before that has yet to be written.
+     */
+    @Override
+    public void captureAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        BinaryAddressBookWriter.Snapshot snapshot = writer.capture(addressBook);
+        synchronized (this) {
+            capturedSnapshot = snapshot;
+        }
+    }
+
+    @Override
+    public void writeCapturedAddressBook() throws IOException {
+        BinaryAddressBookWriter.Snapshot snapshot;
+        synchronized (this) {
+            snapshot = capturedSnapshot;
+            capturedSnapshot = null;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        FileUtil.createIfMissing(filePath);
+        BinaryAddressBookWriter.write(snapshot, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Writes the address book to the JSON file of {@code interchangeStorage} if the snapshot has been written since
+     * the JSON file was, which also catches up on saves made before the app last stopped without closing it.
+     */
+    @Override
+    public void closeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (!Files.exists(filePath)) {
+            return;
+        }
+
+        Path interchangeFilePath = interchangeStorage.getAddressBookFilePath();
+        // Ties are written, as file times may be too coarse to tell apart saves made in quick succession
+        if (!Files.exists(interchangeFilePath) || !Files.getLastModifiedTime(interchangeFilePath)
+                .toInstant().isAfter(Files.getLastModifiedTime(filePath).toInstant())) {
+            logger.info("Bringing " + interchangeFilePath + " up to date with " + filePath);
+            interchangeStorage.saveAddressBook(addressBook, interchangeFilePath);
+        }
+    }
+
+}
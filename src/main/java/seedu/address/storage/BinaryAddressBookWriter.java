@@ -0,0 +1,350 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book as a binary snapshot, which {@link BinaryAddressBookReader} reads.
+ *
+ * All numbers are big-endian. The snapshot starts with {@link #MAGIC} and {@link #VERSION}, followed by:
+ * <ul>
+ *     <li>the string table: the number of strings, the offset of each string and of the end of the last one, and
+ *     then the UTF-8 bytes of the strings,</li>
+ *     <li>the tags: the number of tags and a string reference to the name of each,</li>
+ *     <li>the persons and then the listings: the number of records and the offset of each record,</li>
+ *     <li>the person and listing records.</li>
+ * </ul>
+ * Every string is stored once and referred to by its index in the string table, with {@link #NO_REFERENCE} for a
+ * missing field. Records refer to tags by the string reference of their name and to owners by the string reference of
+ * their phone number, so that a record stays the same however the other elements change. Snapshots of
+ * {@link #INDEXED_VERSION} referred to tags by their index among the tags and to owners by their index among the
+ * persons instead. A price takes a fixed 9 bytes: its value in cents and the number of decimal places it was given
+ * with, which is {@link #NO_PRICE} if there is no price.
+ *
+ * A writer keeps the record it encoded for each person and listing of the address book it captures, and learns of the
+ * elements changed since from the lists of the address book, as {@link AddressBookJournal} does. Capturing the address
+ * book again then only encodes the records of those elements, and the snapshot is put together from the records on
+ * the thread that writes it. Strings are only ever added to the string table, so once it has grown to twice the size
+ * it had when the whole address book was last encoded, the whole address book is encoded again to drop the strings no
+ * record uses any more.
+ */
+class BinaryAddressBookWriter {
+
+    static final int MAGIC = 0x4D454142;
+    static final int VERSION = 2;
+    static final int INDEXED_VERSION = 1;
+    static final int NO_REFERENCE = -1;
+    static final byte NO_PRICE = -1;
+
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Number of strings the string table gains, beyond doubling, before the whole address book is encoded again. */
+    private static final int MIN_STRINGS_BEFORE_REENCODING = 1024;
+
+    private final Map<String, Integer> stringReferences = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    // The record of each element of the tracked address book in order, or null if it has yet to be encoded
+    private final List<byte[]> personRecords = new ArrayList<>();
+    private final List<byte[]> listingRecords = new ArrayList<>();
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final DataOutputStream records = new DataOutputStream(recordBytes);
+    private final ListChangeListener<Person> personListener = change -> recordChange(personRecords, change);
+    private final ListChangeListener<Listing> listingListener = change -> recordChange(listingRecords, change);
+    private ReadOnlyAddressBook trackedAddressBook;
+    private int stringCountAfterEncodingAll;
+
+    /**
+     * Returns {@code addressBook} encoded as a binary snapshot.
+     */
+    static Snapshot encode(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        BinaryAddressBookWriter writer = new BinaryAddressBookWriter();
+        Snapshot snapshot = writer.capture(addressBook);
+        writer.stopTracking();
+        return snapshot;
+    }
+
+    /**
+     * Writes {@code snapshot} to the file at {@code filePath}, replacing its contents. The snapshot is first written
+     * to a temporary file beside it, which is then moved over the file, so that the file is never left partly written.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(Snapshot snapshot, Path filePath) throws IOException {
+        requireNonNull(snapshot);
+        requireNonNull(filePath);
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFilePath), BUFFER_SIZE)) {
+            snapshot.writeTo(out);
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    /**
+     * Captures {@code addressBook} as it is now, encoding only the records of the elements changed since it was last
+     * captured by this writer, and tracks its changes from then on. Captures must all be made from the thread that
+     * changes the address book, but the snapshot returned can be written from any thread.
+     */
+    Snapshot capture(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        boolean isEncodingAll = addressBook != trackedAddressBook
+                || strings.size() > 2 * stringCountAfterEncodingAll + MIN_STRINGS_BEFORE_REENCODING;
+        if (isEncodingAll) {
+            startTracking(addressBook);
+        }
+
+        int[] tagNameReferences = addressBook.getTagMap().keySet().stream().mapToInt(this::getStringReference)
+                .toArray();
+
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            if (personRecords.get(i) == null) {
+                personRecords.set(i, encodePerson(persons.get(i)));
+            }
+        }
+        List<Listing> listings = addressBook.getListingList();
+        for (int i = 0; i < listings.size(); i++) {
+            if (listingRecords.get(i) == null) {
+                listingRecords.set(i, encodeListing(listings.get(i)));
+            }
+        }
+        if (isEncodingAll) {
+            stringCountAfterEncodingAll = strings.size();
+        }
+
+        return new Snapshot(strings.toArray(new String[0]), tagNameReferences,
+                personRecords.toArray(new byte[0][]), listingRecords.toArray(new byte[0][]));
+    }
+
+    /**
+     * Stops tracking the changes of the address book last captured, so that the next capture encodes the whole of it.
+     */
+    void stopTracking() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getListingList().removeListener(listingListener);
+            trackedAddressBook = null;
+        }
+    }
+
+    private void startTracking(ReadOnlyAddressBook addressBook) {
+        stopTracking();
+        stringReferences.clear();
+        strings.clear();
+        personRecords.clear();
+        personRecords.addAll(Collections.nCopies(addressBook.getPersonList().size(), null));
+        listingRecords.clear();
+        listingRecords.addAll(Collections.nCopies(addressBook.getListingList().size(), null));
+
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getListingList().addListener(listingListener);
+    }
+
+    private static void recordChange(List<byte[]> elementRecords, ListChangeListener.Change<?> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    elementRecords.set(i, null);
+                }
+                continue;
+            }
+
+            List<byte[]> changedRecords = elementRecords.subList(change.getFrom(),
+                    change.getFrom() + change.getRemovedSize());
+            changedRecords.clear();
+            changedRecords.addAll(Collections.nCopies(change.getAddedSize(), null));
+        }
+    }
+
+    private byte[] encodePerson(Person person) throws IOException {
+        recordBytes.reset();
+        records.writeInt(getStringReference(person.getName().fullName));
+        records.writeInt(getStringReference(person.getPhone().value));
+        records.writeInt(getStringReference(person.getEmail().value));
+
+        List<PropertyPreference> preferences = person.getPropertyPreferences();
+        records.writeInt(preferences.size());
+        for (PropertyPreference preference : preferences) {
+            writePriceRange(preference.getPriceRange());
+            writeTags(preference.getTags());
+        }
+        records.flush();
+        return recordBytes.toByteArray();
+    }
+
+    private byte[] encodeListing(Listing listing) throws IOException {
+        recordBytes.reset();
+        records.writeInt(getStringReference(listing.getPostalCode().postalCode));
+        records.writeInt(listing.getUnitNumber() != null
+                ? getStringReference(listing.getUnitNumber().unitNumber) : NO_REFERENCE);
+        records.writeInt(listing.getHouseNumber() != null
+                ? getStringReference(listing.getHouseNumber().houseNumber) : NO_REFERENCE);
+        records.writeInt(listing.getPropertyName() != null
+                ? getStringReference(listing.getPropertyName().propertyName) : NO_REFERENCE);
+        writePriceRange(listing.getPriceRange());
+        records.writeBoolean(listing.getAvailability());
+        writeTags(listing.getTags());
+
+        List<Person> owners = listing.getOwners();
+        records.writeInt(owners.size());
+        for (Person owner : owners) {
+            records.writeInt(getStringReference(owner.getPhone().value));
+        }
+        records.flush();
+        return recordBytes.toByteArray();
+    }
+
+    private void writePriceRange(PriceRange priceRange) throws IOException {
+        writePrice(priceRange.lowerBoundPrice);
+        writePrice(priceRange.upperBoundPrice);
+    }
+
+    private void writePrice(Price price) throws IOException {
+        if (price == null) {
+            records.writeLong(0);
+            records.writeByte(NO_PRICE);
+        } else {
+            BigDecimal value = price.toBigDecimal();
+            records.writeLong(price.cents);
+            records.writeByte(value.scale());
+        }
+    }
+
+    private void writeTags(Iterable<Tag> tags) throws IOException {
+        List<Integer> references = new ArrayList<>();
+        for (Tag tag : tags) {
+            references.add(getStringReference(tag.getTagName()));
+        }
+        records.writeInt(references.size());
+        for (int reference : references) {
+            records.writeInt(reference);
+        }
+    }
+
+    private int getStringReference(String string) {
+        return stringReferences.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * An address book captured by a {@code BinaryAddressBookWriter}, as the strings and records that make up its
+     * snapshot. It is not changed once captured, so it can be written from any thread.
+     */
+    static class Snapshot {
+        private final String[] strings;
+        private final int[] tagNameReferences;
+        private final byte[][] personRecords;
+        private final byte[][] listingRecords;
+
+        private Snapshot(String[] strings, int[] tagNameReferences, byte[][] personRecords,
+                byte[][] listingRecords) {
+            this.strings = strings;
+            this.tagNameReferences = tagNameReferences;
+            this.personRecords = personRecords;
+            this.listingRecords = listingRecords;
+        }
+
+        /**
+         * Returns the snapshot as bytes.
+         */
+        byte[] toByteArray() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            writeTo(bytes);
+            return bytes.toByteArray();
+        }
+
+        /**
+         * Writes the header, string table, tags and record offsets, and then the records.
+         */
+        void writeTo(OutputStream outputStream) throws IOException {
+            List<byte[]> encodedStrings = new ArrayList<>(strings.length);
+            int stringDataSize = 0;
+            for (String string : strings) {
+                byte[] encodedString = string.getBytes(StandardCharsets.UTF_8);
+                encodedStrings.add(encodedString);
+                stringDataSize += encodedString.length;
+            }
+
+            int headerSize = Integer.BYTES * 2;
+            int stringTableSize = Integer.BYTES * (strings.length + 2) + stringDataSize;
+            int tagsSize = Integer.BYTES * (tagNameReferences.length + 1);
+            int offsetsSize = Integer.BYTES * (personRecords.length + listingRecords.length + 2);
+            int recordsStart = headerSize + stringTableSize + tagsSize + offsetsSize;
+
+            DataOutputStream out = new DataOutputStream(outputStream);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            out.writeInt(strings.length);
+            int stringOffset = 0;
+            for (byte[] encodedString : encodedStrings) {
+                out.writeInt(stringOffset);
+                stringOffset += encodedString.length;
+            }
+            out.writeInt(stringOffset);
+            for (byte[] encodedString : encodedStrings) {
+                out.write(encodedString);
+            }
+
+            out.writeInt(tagNameReferences.length);
+            for (int tagNameReference : tagNameReferences) {
+                out.writeInt(tagNameReference);
+            }
+
+            int recordOffset = writeOffsets(out, personRecords, recordsStart);
+            writeOffsets(out, listingRecords, recordOffset);
+
+            for (byte[] record : personRecords) {
+                out.write(record);
+            }
+            for (byte[] record : listingRecords) {
+                out.write(record);
+            }
+            out.flush();
+        }
+
+        /**
+         * Writes the number of {@code elementRecords} and the offset of each, placing the first at {@code offset}.
+         *
+         * @return the offset just past the last record.
+         */
+        private static int writeOffsets(DataOutputStream out, byte[][] elementRecords, int offset)
+                throws IOException {
+            out.writeInt(elementRecords.length);
+            for (byte[] record : elementRecords) {
+                out.writeInt(offset);
+                offset += record.length;
+            }
+            return offset;
+        }
+    }
+}
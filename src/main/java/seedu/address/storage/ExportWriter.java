@@ -0,0 +1,18 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the content of a file that the app exports besides its data, such as a report of matches.
+ */
+@FunctionalInterface
+public interface ExportWriter {
+
+    /**
+     * Writes the content of the exported file to {@code writer}.
+     *
+     * @throws IOException if the content could not be written.
+     */
+    void writeTo(Writer writer) throws IOException;
+}
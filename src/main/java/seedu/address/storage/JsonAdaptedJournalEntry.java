@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of an entry in an {@link AddressBookJournal}, which records one change to the persons,
+ * listings or tags of an address book.
+ * A change to persons or listings replaces a run of elements at a position with new elements, and a change to tags
+ * removes and adds tags by name.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String SECTION_PERSONS = "persons";
+    public static final String SECTION_LISTINGS = "listings";
+    public static final String SECTION_TAGS = "tags";
+
+    public static final String MESSAGE_UNKNOWN_SECTION = "Journal entry %1$d changes an unknown section: %2$s";
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal entry %1$d changes %2$s beyond the end of the list";
+
+    private final long sequence;
+    private final String section;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<JsonAdaptedListing> listings;
+    private final List<String> removedTags;
+    private final List<String> addedTags;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequence") long sequence,
+                                   @JsonProperty("section") String section,
+                                   @JsonProperty("from") int from,
+                                   @JsonProperty("removed") int removed,
+                                   @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("listings") List<JsonAdaptedListing> listings,
+                                   @JsonProperty("removedTags") List<String> removedTags,
+                                   @JsonProperty("addedTags") List<String> addedTags) {
+        this.sequence = sequence;
+        this.section = section;
+        this.from = from;
+        this.removed = removed;
+        this.persons = (persons != null) ? persons : new ArrayList<>();
+        this.listings = (listings != null) ? listings : new ArrayList<>();
+        this.removedTags = (removedTags != null) ? removedTags : new ArrayList<>();
+        this.addedTags = (addedTags != null) ? addedTags : new ArrayList<>();
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the change does not fit the address book.
+     */
+    public void applyTo(JsonSerializableAddressBook addressBook) throws IllegalValueException {
+        try {
+            switch (String.valueOf(section)) {
+            case SECTION_PERSONS:
+                addressBook.replacePersons(from, removed, persons);
+                break;
+            case SECTION_LISTINGS:
+                addressBook.replaceListings(from, removed, listings);
+                break;
+            case SECTION_TAGS:
+                addressBook.replaceTags(removedTags, addedTags);
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SECTION, sequence, section));
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_RANGE, sequence, section), e);
+        }
+    }
+}
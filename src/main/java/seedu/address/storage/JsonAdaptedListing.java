@@ -3,12 +3,12 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.listing.HouseNumber;
@@ -90,9 +90,25 @@ class JsonAdaptedListing {
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Listing} object.
      *
+     * @param addressBook    the address book to register the tags of the listing in.
+     * @param personsByPhone the persons of the address book by phone number, to resolve the owners of the listing.
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public Listing toModelType(AddressBook addressBook) throws IllegalValueException {
+    public Listing toModelType(AddressBook addressBook, Map<String, Person> personsByPhone)
+            throws IllegalValueException {
+        Listing modelListing = toUnlinkedModelType();
+        link(modelListing, addressBook, personsByPhone);
+        return modelListing;
+    }
+
+    /**
+     * Converts this adapted listing into the model's {@code Listing} object without its tags and owners, so that
+     * listings can be converted in parallel. The tags and owners are added by
+     * {@link #link(Listing, AddressBook, Map)}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted listing.
+     */
+    Listing toUnlinkedModelType() throws IllegalValueException {
         if (postalCode == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     PostalCode.class.getSimpleName()));
@@ -126,17 +142,31 @@ class JsonAdaptedListing {
 
         boolean modelIsAvailable = isAvailable;
 
-        Listing modelListing = Listing.of(modelPostalCode,
+        for (JsonAdaptedTag jsonAdaptedTag : tags) {
+            jsonAdaptedTag.validate();
+        }
+
+        return Listing.of(modelPostalCode,
                 modelUnitNumber,
                 modelHouseNumber,
                 priceRange.toModelType(),
                 modelPropertyName,
                 new HashSet<>(),
-                getModelOwners(addressBook.getPersonList()),
+                new ArrayList<>(),
                 modelIsAvailable);
+    }
+
+    /**
+     * Adds the tags and owners of this adapted listing to {@code modelListing}, which was converted from it by
+     * {@link #toUnlinkedModelType()}, using the tags of {@code addressBook} and the owners in {@code personsByPhone}.
+     */
+    void link(Listing modelListing, AddressBook addressBook, Map<String, Person> personsByPhone) {
+        for (Person owner : getModelOwners(personsByPhone)) {
+            modelListing.addOwner(owner);
+        }
 
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            Tag tag = jsonAdaptedTag.toModelType(addressBook);
+            Tag tag = jsonAdaptedTag.toLinkedModelType(addressBook);
 
             modelListing.addTag(tag);
             tag.addListing(modelListing);
@@ -147,26 +177,15 @@ class JsonAdaptedListing {
         for (Person owner : modelListing.getOwners()) {
             owner.addListing(modelListing);
         }
-
-        return modelListing;
     }
 
 
-    private List<Person> getModelOwners(ObservableList<Person> personList) {
-        List<Person> owners = new ArrayList<>();
+    private List<Person> getModelOwners(Map<String, Person> personsByPhone) {
+        List<Person> owners = new ArrayList<>(ownerKeys.size());
         for (String key : ownerKeys) {
-
-            for (Person person : personList) {
-                if (person == null) {
-                    continue;
-                }
-
-                if (!person.getPhone().value.equals(key)) {
-                    continue;
-                }
-
-                owners.add(person);
-
+            Person owner = personsByPhone.get(key);
+            if (owner != null) {
+                owners.add(owner);
             }
         }
         return owners;
@@ -13,6 +13,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.PropertyPreference;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -58,6 +59,18 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType(AddressBook addressBook) throws IllegalValueException {
+        Person modelPerson = toUnlinkedModelType();
+        linkTags(modelPerson, addressBook);
+        return modelPerson;
+    }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object without the tags of its preferences, so that
+     * persons can be converted in parallel. The tags are added by {@link #linkTags(Person, AddressBook)}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    Person toUnlinkedModelType() throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -89,9 +102,20 @@ class JsonAdaptedPerson {
         Person modelPerson = new Person(modelName, modelPhone, modelEmail, new ArrayList<>(), new ArrayList<>());
 
         for (JsonAdaptedPreference pref : preferences) {
-            modelPerson.addPropertyPreference(pref.toModelType(addressBook, modelPerson));
+            modelPerson.addPropertyPreference(pref.toUnlinkedModelType(modelPerson));
         }
 
         return modelPerson;
     }
+
+    /**
+     * Adds the tags of the preferences of this adapted person to {@code modelPerson}, which was converted from it by
+     * {@link #toUnlinkedModelType()}, using the tags of {@code addressBook}.
+     */
+    void linkTags(Person modelPerson, AddressBook addressBook) {
+        List<PropertyPreference> modelPreferences = modelPerson.getPropertyPreferences();
+        for (int i = 0; i < preferences.size(); i++) {
+            preferences.get(i).linkTags(modelPreferences.get(i), addressBook);
+        }
+    }
 }
@@ -44,6 +44,19 @@ class JsonAdaptedPreference {
      * Converts this Jackson-friendly adapted preference object into the model's {@code PriceRange} object.
      */
     public PropertyPreference toModelType(AddressBook addressBook, Person person) throws IllegalValueException {
+        PropertyPreference modelPreference = toUnlinkedModelType(person);
+        linkTags(modelPreference, addressBook);
+        return modelPreference;
+    }
+
+    /**
+     * Converts this adapted preference into the model's {@code PropertyPreference} object without any of its tags,
+     * so that preferences can be converted in parallel. The tags are added by
+     * {@link #linkTags(PropertyPreference, AddressBook)}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted preference.
+     */
+    PropertyPreference toUnlinkedModelType(Person person) throws IllegalValueException {
         if (priceRange == null) {
             throw new IllegalValueException("PropertyPreference's priceRange cannot be null.");
         }
@@ -56,18 +69,26 @@ class JsonAdaptedPreference {
             throw new IllegalValueException("PropertyPreference's person cannot be null.");
         }
 
-        PropertyPreference modelPreference = new PropertyPreference(priceRange.toModelType(), new HashSet<>(), person);
+        for (JsonAdaptedTag jsonAdaptedTag : tags) {
+            jsonAdaptedTag.validate();
+        }
 
+        return new PropertyPreference(priceRange.toModelType(), new HashSet<>(), person);
+    }
+
+    /**
+     * Adds the tags of this adapted preference to {@code modelPreference}, which was converted from it by
+     * {@link #toUnlinkedModelType(Person)}, using the tags of {@code addressBook}.
+     */
+    void linkTags(PropertyPreference modelPreference, AddressBook addressBook) {
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            Tag tag = jsonAdaptedTag.toModelType(addressBook);
+            Tag tag = jsonAdaptedTag.toLinkedModelType(addressBook);
 
             modelPreference.addTag(tag);
             tag.addPropertyPreference(modelPreference);
 
             addressBook.setTag(tag, tag);
         }
-
-        return modelPreference;
     }
 
 }
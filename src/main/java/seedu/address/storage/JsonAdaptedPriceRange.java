@@ -31,8 +31,8 @@ class JsonAdaptedPriceRange {
      * Converts a given {@code PriceRange} into this class for Jackson use.
      */
     public JsonAdaptedPriceRange(PriceRange source) {
-        this.lower = source.lowerBoundPrice == null ? null : source.lowerBoundPrice.price;
-        this.upper = source.upperBoundPrice == null ? null : source.upperBoundPrice.price;
+        this.lower = source.lowerBoundPrice == null ? null : source.lowerBoundPrice.toBigDecimal();
+        this.upper = source.upperBoundPrice == null ? null : source.upperBoundPrice.toBigDecimal();
     }
 
     @JsonProperty("upper")
@@ -51,11 +51,11 @@ class JsonAdaptedPriceRange {
 
         try {
             if (lower != null && upper != null) {
-                modelPriceRange = new PriceRange(new Price(lower.toString()), new Price(upper.toString()));
+                modelPriceRange = new PriceRange(new Price(lower.toPlainString()), new Price(upper.toPlainString()));
             } else if (lower != null) {
-                modelPriceRange = new PriceRange(new Price(lower.toString()), false);
+                modelPriceRange = new PriceRange(new Price(lower.toPlainString()), false);
             } else if (upper != null) {
-                modelPriceRange = new PriceRange(new Price(upper.toString()), true);
+                modelPriceRange = new PriceRange(new Price(upper.toPlainString()), true);
             }
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
@@ -42,17 +42,30 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType(AddressBook addressBook) throws IllegalValueException {
+        validate();
+        return toLinkedModelType(addressBook);
+    }
+
+    /**
+     * Checks this adapted tag without looking it up in any address book, so that tags can be checked in parallel.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    void validate() throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
+    }
 
-        Tag tag = new Tag(tagName, new ArrayList<>(), new ArrayList<>());
+    /**
+     * Returns the tag of {@code addressBook} with the name of this adapted tag, or a new tag if it has none.
+     * The adapted tag must have been validated.
+     */
+    Tag toLinkedModelType(AddressBook addressBook) {
         if (addressBook.hasTag(tagName)) {
-            tag = addressBook.getTagMap().get(tagName);
+            return addressBook.getTag(tagName);
         }
-
-        return tag;
+        return new Tag(tagName, new ArrayList<>(), new ArrayList<>());
     }
 
-
 }
@@ -0,0 +1,335 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds the model's {@code AddressBook} from JSON-adapted tags, persons and listings as they are read, so that a
+ * file can be loaded one element at a time instead of as a whole tree of adapted objects.
+ *
+ * Persons need the tags they carry to have been added, and listings also need the persons that own them. Elements
+ * that arrive before the section they depend on are held until that section has been read, so sections are best
+ * read in the order tags, persons, listings.
+ *
+ * Elements are converted a batch at a time in two phases. Checking the fields of each element and building its value
+ * objects is independent of every other element, so it runs across the common fork/join pool. Linking the elements to
+ * their tags and owners and adding them to the address book then runs in order. A failed conversion is only reported
+ * when its element is reached in that order, so the error reported for an invalid file does not depend on how the
+ * elements were scheduled.
+ */
+class JsonAddressBookReader {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BATCH_SIZE = 4096;
+    private static final int MIN_PARALLEL_BATCH_SIZE = 256;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<String, Person> personsByPhone = new HashMap<>();
+    private final List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+    private final List<JsonAdaptedListing> pendingListings = new ArrayList<>();
+    private final long startTime = System.nanoTime();
+
+    private boolean hasTags;
+    private boolean hasPersons;
+    private int tagCount;
+    private int listingCount;
+    // Time spent converting and adding each kind of element, which leaves out the time spent parsing them
+    private long tagNanos;
+    private long personNanos;
+    private long listingNanos;
+
+    /**
+     * Constructs a {@code JsonAddressBookReader} with an empty address book, which is bulk updated until
+     * {@link #getAddressBook()} is called.
+     */
+    JsonAddressBookReader() {
+        addressBook.beginBulkUpdate();
+    }
+
+    /**
+     * Reads the address book in the JSON file at {@code filePath}, converting each element as soon as it is parsed.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream in = new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ)), BUFFER_SIZE);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            reader.readAddressBook(parser);
+            return reader.getAddressBook();
+        }
+    }
+
+    private void readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+            case "tags":
+                readTags(parser);
+                break;
+            case "persons":
+                readArray(parser, JsonAdaptedPerson.class, this::addPersons);
+                endPersons();
+                break;
+            case "listings":
+                readArray(parser, JsonAdaptedListing.class, this::addListings);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+    }
+
+    private void readTags(JsonParser parser) throws IOException, IllegalValueException {
+        Set<String> tagNames = new HashSet<>();
+        readArray(parser, JsonAdaptedTag.class, tags -> tags.forEach(tag -> tagNames.add(tag.getTagName())));
+        addTags(tagNames);
+    }
+
+    /**
+     * Reads the elements of the JSON array at the current token of {@code parser}, passing them to {@code handler} in
+     * batches of at most {@link #BATCH_SIZE} before reading the next batch. A null array is read as an empty one.
+     */
+    private static <T> void readArray(JsonParser parser, Class<T> elementClass, BatchHandler<T> handler)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a JSON array");
+        }
+
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(JsonUtil.readValue(parser, elementClass));
+            if (batch.size() == BATCH_SIZE) {
+                handler.handle(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            handler.handle(batch);
+        }
+    }
+
+    /**
+     * Adds the tags with the given names to the address book, and then any persons and listings that were waiting
+     * for them.
+     */
+    void addTags(Collection<String> tagNames) throws IllegalValueException {
+        long startTime = System.nanoTime();
+        addressBook.addTags(new HashSet<>(tagNames));
+        tagCount += tagNames.size();
+        tagNanos += System.nanoTime() - startTime;
+        hasTags = true;
+        addPendingElements();
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} and adds them to the address book in order, or holds them until the tags
+     * have been added.
+     *
+     * @throws IllegalValueException if any of the persons is invalid or is a duplicate, reporting the first such
+     *     person in the list.
+     */
+    void addPersons(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        if (!hasTags) {
+            pendingPersons.addAll(jsonAdaptedPersons);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        List<Conversion<Person>> conversions =
+                convertInParallel(jsonAdaptedPersons, JsonAdaptedPerson::toUnlinkedModelType);
+        for (int i = 0; i < conversions.size(); i++) {
+            Person person = conversions.get(i).get();
+            jsonAdaptedPersons.get(i).linkTags(person, addressBook);
+
+            // Persons are identified by phone number, so this also detects duplicate persons
+            if (personsByPhone.putIfAbsent(person.getPhone().value, person) != null) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+
+            addressBook.addPerson(person);
+        }
+        personNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Marks every person as read, and adds any listings that were waiting for them.
+     */
+    void endPersons() throws IllegalValueException {
+        hasPersons = true;
+        addPendingElements();
+    }
+
+    /**
+     * Converts {@code jsonAdaptedListings} and adds them to the address book in order, or holds them until the tags
+     * and persons have been added.
+     *
+     * @throws IllegalValueException if any of the listings is invalid or is a duplicate, reporting the first such
+     *     listing in the list.
+     */
+    void addListings(List<JsonAdaptedListing> jsonAdaptedListings) throws IllegalValueException {
+        if (!hasTags || !hasPersons) {
+            pendingListings.addAll(jsonAdaptedListings);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        List<Conversion<Listing>> conversions =
+                convertInParallel(jsonAdaptedListings, JsonAdaptedListing::toUnlinkedModelType);
+        for (int i = 0; i < conversions.size(); i++) {
+            Listing listing = conversions.get(i).get();
+            jsonAdaptedListings.get(i).link(listing, addressBook, personsByPhone);
+            if (addressBook.hasListing(listing)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LISTING);
+            }
+
+            addressBook.addListing(listing);
+            listingCount++;
+        }
+        listingNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Converts each of {@code elements} with {@code converter}, across the common fork/join pool if there are enough
+     * of them to be worth it. The conversions are returned in the order of the elements, each holding either the
+     * converted element or the exception its conversion threw.
+     */
+    private static <T, R> List<Conversion<R>> convertInParallel(List<T> elements, Converter<T, R> converter) {
+        IntStream indices = IntStream.range(0, elements.size());
+        if (elements.size() >= MIN_PARALLEL_BATCH_SIZE) {
+            indices = indices.parallel();
+        }
+        return indices.mapToObj(i -> Conversion.of(converter, elements.get(i))).toList();
+    }
+
+    /**
+     * Adds any elements that are still waiting, treating sections that were never read as empty, and returns the
+     * completed address book.
+     *
+     * @throws IllegalValueException if any of the waiting elements is invalid or is a duplicate.
+     */
+    AddressBook getAddressBook() throws IllegalValueException {
+        hasTags = true;
+        hasPersons = true;
+        addPendingElements();
+        addressBook.endBulkUpdate();
+
+        logger.info(String.format("Loaded %1$d tags in %2$d ms, %3$d persons in %4$d ms, %5$d listings in %6$d ms, "
+                        + "%7$d ms in total including parsing",
+                tagCount, TimeUnit.NANOSECONDS.toMillis(tagNanos),
+                personsByPhone.size(), TimeUnit.NANOSECONDS.toMillis(personNanos),
+                listingCount, TimeUnit.NANOSECONDS.toMillis(listingNanos),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return addressBook;
+    }
+
+    private void addPendingElements() throws IllegalValueException {
+        if (hasTags && !pendingPersons.isEmpty()) {
+            List<JsonAdaptedPerson> persons = new ArrayList<>(pendingPersons);
+            pendingPersons.clear();
+            addPersons(persons);
+        }
+
+        if (hasTags && hasPersons && !pendingListings.isEmpty()) {
+            List<JsonAdaptedListing> listings = new ArrayList<>(pendingListings);
+            pendingListings.clear();
+            addListings(listings);
+        }
+    }
+
+    /**
+     * Represents an action on each batch of elements read from a JSON array.
+     */
+    @FunctionalInterface
+    private interface BatchHandler<T> {
+        void handle(List<T> batch) throws IllegalValueException;
+    }
+
+    /**
+     * Represents the conversion of a JSON-adapted element into a model object that does not depend on any other
+     * element.
+     */
+    @FunctionalInterface
+    private interface Converter<T, R> {
+        R convert(T element) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting a single element, which is either the converted element or the exception thrown
+     * while converting it.
+     */
+    private static class Conversion<R> {
+        private final R result;
+        private final Exception exception;
+
+        private Conversion(R result, Exception exception) {
+            this.result = result;
+            this.exception = exception;
+        }
+
+        static <T, R> Conversion<R> of(Converter<T, R> converter, T element) {
+            try {
+                return new Conversion<>(converter.convert(element), null);
+            } catch (IllegalValueException | RuntimeException e) {
+                return new Conversion<>(null, e);
+            }
+        }
+
+        /**
+         * Returns the converted element, or throws the exception thrown while converting it.
+         */
+        R get() throws IllegalValueException {
+            if (exception instanceof IllegalValueException) {
+                throw (IllegalValueException) exception;
+            }
+            if (exception != null) {
+                throw (RuntimeException) exception;
+            }
+            return result;
+        }
+    }
+}
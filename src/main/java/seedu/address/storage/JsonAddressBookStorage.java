@@ -3,15 +3,17 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.AddressBookLoadEvent;
+import seedu.address.commons.events.AddressBookSaveEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -22,9 +24,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final AddressBookJournal journal;
+
+    // Counted when the address book is captured, for the save event of the write that follows
+    private volatile int capturedPersonCount;
+    private volatile int capturedListingCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether to indent saved files for reading, instead of writing them compactly.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.journal = new AddressBookJournal(filePath, isPrettyPrinted,
+                AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD_BYTES);
     }
 
     public Path getAddressBookFilePath() {
@@ -45,27 +65,103 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        AddressBookLoadEvent event = new AddressBookLoadEvent();
+        event.begin();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean hasJournal = AddressBookJournal.hasJournal(filePath);
+            ReadOnlyAddressBook addressBook = hasJournal
+                    ? AddressBookJournal.replay(filePath)
+                    : JsonAddressBookReader.read(filePath);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.setPath(filePath.toString());
+                event.setBytes(Files.size(filePath)
+                        + (hasJournal ? Files.size(AddressBookJournal.getJournalFilePath(filePath)) : 0));
+                event.setJournalReplayed(hasJournal);
+                event.setPersons(addressBook.getPersonList().size());
+                event.setListings(addressBook.getListingList().size());
+                event.setTags(addressBook.getTagMap().size());
+                event.commit();
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Once {@code addressBook} has been saved to the default file path, later saves of it only append the changes
+     * made to it since to a journal beside the file, which is folded back into the file in the background once it
+     * grows large.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+        captureAddressBook(addressBook);
+        writeCapturedAddressBook();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the changes made to {@code addressBook} since it was last captured are encoded, unless it has yet to be
+     * saved to the default file path, in which case the whole of it is.
+     */
+    @Override
+    public void captureAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (journal.isTracking(addressBook)) {
+            journal.captureChanges();
+        } else {
+            journal.captureSnapshot(addressBook);
+        }
+        capturedPersonCount = addressBook.getPersonList().size();
+        capturedListingCount = addressBook.getListingList().size();
+    }
+
+    @Override
+    public void writeCapturedAddressBook() throws IOException {
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        FileUtil.createIfMissing(filePath);
+        long bytes = journal.writeCaptured();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setPath(filePath.toString());
+            event.setBytes(bytes);
+            event.setPersons(capturedPersonCount);
+            event.setListings(capturedListingCount);
+            event.commit();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Folds any journal into the file by writing the whole address book, so that the next launch streams the file
+     * instead of reading it as a whole to replay the journal on top of it.
+     */
+    @Override
+    public void closeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (AddressBookJournal.hasJournal(filePath)) {
+            saveAddressBook(addressBook, filePath);
+        }
     }
 
     /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but always writes the whole address book, replacing
+     * any journal beside the file.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +169,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (filePath.equals(this.filePath)) {
+            journal.writeSnapshot(addressBook);
+        } else {
+            AddressBookJournal.writeSnapshot(addressBook, filePath, isPrettyPrinted, 0);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            // The whole address book is written, replacing any journal, so the file holds exactly what was written
+            event.setPath(filePath.toString());
+            event.setBytes(Files.size(filePath));
+            event.setPersons(addressBook.getPersonList().size());
+            event.setListings(addressBook.getListingList().size());
+            event.commit();
+        }
     }
 
 }
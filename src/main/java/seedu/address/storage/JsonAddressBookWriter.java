@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a JSON file token by token, straight from the model, in the same format that
+ * {@link JsonAddressBookReader} reads.
+ * Unlike saving through {@link JsonSerializableAddressBook}, no adapted copy of the address book and no string of the
+ * whole file are built along the way.
+ */
+class JsonAddressBookWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final JsonGenerator generator;
+
+    JsonAddressBookWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     * The address book is first written to a temporary file beside it, which is then moved over the file, so that
+     * the file is never left partly written.
+     *
+     * @param isPrettyPrinted whether to indent the output for reading, instead of writing it compactly.
+     * @param journalSequence the sequence number of the last journal entry whose change the address book includes.
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isPrettyPrinted, long journalSequence)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFilePath = getTempFilePath(filePath);
+        try (OutputStream out = new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(tempFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)),
+                BUFFER_SIZE)) {
+            writeTo(out, addressBook, isPrettyPrinted, journalSequence);
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    /**
+     * Returns {@code addressBook} encoded as it would be written by
+     * {@link #write(ReadOnlyAddressBook, Path, boolean, long)}, so that it can be written later while the address
+     * book itself goes on changing.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook, boolean isPrettyPrinted, long journalSequence)
+            throws IOException {
+        requireNonNull(addressBook);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out, addressBook, isPrettyPrinted, journalSequence);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes an address book encoded by {@link #encode(ReadOnlyAddressBook, boolean, long)} to the file at
+     * {@code filePath}, replacing its contents in the same way as
+     * {@link #write(ReadOnlyAddressBook, Path, boolean, long)}.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(byte[] encodedAddressBook, Path filePath) throws IOException {
+        requireNonNull(encodedAddressBook);
+        requireNonNull(filePath);
+
+        Path tempFilePath = getTempFilePath(filePath);
+        Files.write(tempFilePath, encodedAddressBook);
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    private static Path getTempFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_EXTENSION);
+    }
+
+    private static void writeTo(OutputStream out, ReadOnlyAddressBook addressBook, boolean isPrettyPrinted,
+            long journalSequence) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            new JsonAddressBookWriter(generator).writeAddressBook(addressBook, journalSequence);
+        }
+    }
+
+    /**
+     * Writes the tags first and persons before listings, as elements can only be converted once the elements they
+     * refer to have been read.
+     */
+    private void writeAddressBook(ReadOnlyAddressBook addressBook, long journalSequence) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("journalSequence", journalSequence);
+
+        generator.writeArrayFieldStart("tags");
+        for (String tagName : addressBook.getTagMap().keySet()) {
+            generator.writeString(tagName);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(person);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("listings");
+        for (Listing listing : addressBook.getListingList()) {
+            writeListing(listing);
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code person} as a JSON object.
+     */
+    void writePerson(Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+
+        generator.writeArrayFieldStart("preferences");
+        for (PropertyPreference preference : person.getPropertyPreferences()) {
+            generator.writeStartObject();
+            writePriceRange(preference.getPriceRange());
+            writeTags(preference.getTags());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code listing} as a JSON object.
+     */
+    void writeListing(Listing listing) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("postalCode", listing.getPostalCode().postalCode);
+        generator.writeStringField("unitNumber",
+                listing.getUnitNumber() != null ? listing.getUnitNumber().unitNumber : null);
+        generator.writeStringField("houseNumber",
+                listing.getHouseNumber() != null ? listing.getHouseNumber().houseNumber : null);
+        writePriceRange(listing.getPriceRange());
+        generator.writeStringField("propertyName",
+                listing.getPropertyName() != null ? listing.getPropertyName().propertyName : null);
+        writeTags(listing.getTags());
+
+        generator.writeArrayFieldStart("ownerKeys");
+        for (Person owner : listing.getOwners()) {
+            generator.writeString(owner.getPhone().value);
+        }
+        generator.writeEndArray();
+
+        generator.writeBooleanField("isAvailable", listing.getAvailability());
+        generator.writeEndObject();
+    }
+
+    private void writePriceRange(PriceRange priceRange) throws IOException {
+        generator.writeObjectFieldStart("priceRange");
+        writePrice("upper", priceRange.upperBoundPrice);
+        writePrice("lower", priceRange.lowerBoundPrice);
+        generator.writeEndObject();
+    }
+
+    private void writePrice(String fieldName, Price price) throws IOException {
+        generator.writeFieldName(fieldName);
+        if (price == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(price.toBigDecimal());
+        }
+    }
+
+    private void writeTags(Iterable<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+}
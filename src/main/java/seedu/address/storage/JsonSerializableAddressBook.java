@@ -1,24 +1,27 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.listing.Listing;
-import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Tags are written first and persons before listings, so that {@link JsonAddressBookReader} can convert each element
+ * as soon as it is read.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"tags", "persons", "listings"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
@@ -27,7 +30,7 @@ class JsonSerializableAddressBook {
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedListing> listings = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-
+    private final long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
@@ -35,10 +38,12 @@ class JsonSerializableAddressBook {
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("listings") List<JsonAdaptedListing> listings,
-                                       @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+                                       @JsonProperty("tags") List<JsonAdaptedTag> tags,
+                                       @JsonProperty("journalSequence") long journalSequence) {
         this.persons.addAll(persons);
         this.listings.addAll(listings);
         this.tags.addAll(tags);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -50,66 +55,59 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).toList());
         listings.addAll(source.getListingList().stream().map(JsonAdaptedListing::new).toList());
         tags.addAll(source.getTagMap().keySet().stream().map(JsonAdaptedTag::new).toList());
+        journalSequence = 0;
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
-     *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * Returns the sequence number of the last journal entry whose change this address book includes.
      */
-    public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        addTags(addressBook);
-        addPersons(addressBook);
-        addListings(addressBook);
-
-        return addressBook;
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
-     * Creates and returns a list of Person objects from the JSON-adapted persons.
-     *
-     * @throws IllegalValueException If there are duplicate persons.
+     * Replaces the {@code removedCount} persons starting at position {@code from} with {@code added}.
      */
-    private void addPersons(AddressBook addressBook) throws IllegalValueException {
-
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(addressBook);
-
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
+    void replacePersons(int from, int removedCount, List<JsonAdaptedPerson> added) {
+        List<JsonAdaptedPerson> replaced = persons.subList(from, from + removedCount);
+        replaced.clear();
+        replaced.addAll(added);
+    }
 
-            addressBook.addPerson(person);
-        }
+    /**
+     * Replaces the {@code removedCount} listings starting at position {@code from} with {@code added}.
+     */
+    void replaceListings(int from, int removedCount, List<JsonAdaptedListing> added) {
+        List<JsonAdaptedListing> replaced = listings.subList(from, from + removedCount);
+        replaced.clear();
+        replaced.addAll(added);
     }
 
     /**
-     * Creates Listing objects from the JSON-adapted listings and adds them to the AddressBook.
-     *
-     * @param addressBook The AddressBook to add the listings to and get owners.
-     * @throws IllegalValueException If there are duplicate listings.
+     * Removes the tags named in {@code removedTagNames}, and then adds tags named {@code addedTagNames}.
      */
-    private void addListings(AddressBook addressBook)
-            throws IllegalValueException {
-        for (JsonAdaptedListing jsonAdaptedListing : listings) {
-            Listing listing = jsonAdaptedListing.toModelType(addressBook);
-            if (addressBook.hasListing(listing)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LISTING);
-            }
-            addressBook.addListing(listing);
+    void replaceTags(Collection<String> removedTagNames, Collection<String> addedTagNames) {
+        Set<String> removed = new HashSet<>(removedTagNames);
+        tags.removeIf(tag -> removed.contains(tag.getTagName()));
+        for (String tagName : addedTagNames) {
+            tags.add(new JsonAdaptedTag(tagName));
         }
     }
 
     /**
-     * Adds tags from the JSON-adapted tags to the AddressBook.
+     * Converts this address book into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
      */
-    private void addTags(AddressBook addressBook) throws IllegalValueException {
-        Set<String> tagList = new HashSet<>();
-        for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            tagList.add(jsonAdaptedTag.getTagName());
-        }
-        addressBook.addTags(tagList);
+    public AddressBook toModelType() throws IllegalValueException {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+
+        reader.addTags(tags.stream().map(JsonAdaptedTag::getTagName).toList());
+        reader.addPersons(persons);
+        reader.endPersons();
+        reader.addListings(listings);
+
+        return reader.getAddressBook();
     }
 
 }
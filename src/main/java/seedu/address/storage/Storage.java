@@ -29,4 +29,32 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} on a background thread, so that the caller does not wait for the
+     * data file to be written. The address book is captured before this method returns, and saves made in quick
+     * succession are written together.
+     * Failures to write are reported by {@link #checkBackgroundSaves()}.
+     *
+     * @throws IOException if there was any problem capturing the address book.
+     */
+    void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Writes a file to {@code filePath} with the content written by {@code exportWriter} on a background thread,
+     * after the background saves started before it, replacing the file if it exists.
+     * Failures to write are reported by {@link #checkBackgroundSaves()}, like those of background saves.
+     */
+    void exportInBackground(Path filePath, ExportWriter exportWriter);
+
+    /**
+     * Throws the exception that made the latest background save or export fail, if any has failed since this method
+     * was last called.
+     */
+    void checkBackgroundSaves() throws IOException;
+
+    /**
+     * Waits until every background save and export started so far has been written or has failed.
+     */
+    void flush();
+
 }
@@ -1,18 +1,29 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Tracer;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Background saves and exports are written one after another by a single writer thread.
  */
 public class StorageManager implements Storage {
 
@@ -20,6 +31,14 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean isWriteScheduled;
+    private IOException backgroundSaveFailure;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -61,18 +80,124 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "read address book")) {
+            return addressBookStorage.readAddressBook(filePath);
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * Waits for any background saves to be written first.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        flush();
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "save address book")) {
+            addressBookStorage.saveAddressBook(addressBook);
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * Waits for any background saves to be written first.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "save address book")) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Waits for any background saves to be written first.
+     */
+    @Override
+    public void closeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        flush();
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "close address book")) {
+            addressBookStorage.closeAddressBook(addressBook);
+        }
+    }
+
+    @Override
+    public void captureAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        addressBookStorage.captureAddressBook(addressBook);
+    }
+
+    @Override
+    public void writeCapturedAddressBook() throws IOException {
+        addressBookStorage.writeCapturedAddressBook();
+    }
+
+    @Override
+    public void saveAddressBookInBackground(ReadOnlyAddressBook addressBook) throws IOException {
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "capture address book")) {
+            addressBookStorage.captureAddressBook(addressBook);
+        }
+
+        synchronized (this) {
+            // A write that is scheduled but has yet to start also writes this capture
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                addressBookWriter.execute(this::writeInBackground);
+            }
+        }
+    }
+
+    private void writeInBackground() {
+        synchronized (this) {
+            isWriteScheduled = false;
+        }
+
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "write address book")) {
+            addressBookStorage.writeCapturedAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to write to data file " + addressBookStorage.getAddressBookFilePath() + ": " + e);
+            synchronized (this) {
+                backgroundSaveFailure = e;
+            }
+        }
+    }
+
+    @Override
+    public void exportInBackground(Path filePath, ExportWriter exportWriter) {
+        requireAllNonNull(filePath, exportWriter);
+        addressBookWriter.execute(() -> exportFile(filePath, exportWriter));
+    }
+
+    private void exportFile(Path filePath, ExportWriter exportWriter) {
+        logger.fine("Attempting to export to file: " + filePath);
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_STORAGE, "export file")) {
+            FileUtil.createIfMissing(filePath);
+            try (Writer writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+                exportWriter.writeTo(writer);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to export to file " + filePath + ": " + e);
+            synchronized (this) {
+                backgroundSaveFailure = e;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void checkBackgroundSaves() throws IOException {
+        IOException failure = backgroundSaveFailure;
+        backgroundSaveFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() {
+        // The writer runs its tasks in order, so this runs after every write scheduled before it
+        CompletableFuture.runAsync(() -> {}, addressBookWriter).join();
     }
 
 }
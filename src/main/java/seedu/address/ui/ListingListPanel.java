@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Tracer;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.search.SearchContext;
 
@@ -39,13 +40,15 @@ public class ListingListPanel extends UiPart<Region> {
     class ListingListViewCell extends ListCell<Listing> {
         @Override
         protected void updateItem(Listing property, boolean empty) {
-            super.updateItem(property, empty);
-
-            if (empty || property == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new ListingCard(property, getIndex() + 1, searchContext).getRoot());
+            try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_UI, "listing cell")) {
+                super.updateItem(property, empty);
+
+                if (empty || property == null) {
+                    setGraphic(null);
+                    setText(null);
+                } else {
+                    setGraphic(new ListingCard(property, getIndex() + 1, searchContext).getRoot());
+                }
             }
         }
     }
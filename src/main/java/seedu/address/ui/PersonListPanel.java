@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Tracer;
 import seedu.address.model.person.Person;
 import seedu.address.model.search.SearchContext;
 
@@ -38,13 +39,15 @@ public class PersonListPanel extends UiPart<Region> {
     class PersonListViewCell extends ListCell<Person> {
         @Override
         protected void updateItem(Person person, boolean empty) {
-            super.updateItem(person, empty);
-
-            if (empty || person == null) {
-                setGraphic(null);
-                setText(null);
-            } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, searchContext).getRoot());
+            try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_UI, "person cell")) {
+                super.updateItem(person, empty);
+
+                if (empty || person == null) {
+                    setGraphic(null);
+                    setText(null);
+                } else {
+                    setGraphic(new PersonCard(person, getIndex() + 1, searchContext).getRoot());
+                }
             }
         }
     }
@@ -39,10 +39,40 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_generateParameters_success() {
+        parametersStub.namedParameters.put("generate", "10000");
+        parametersStub.namedParameters.put("seed", "7");
+        parametersStub.namedParameters.put("output", "large.json");
+        expected.setGeneratedSize(10000);
+        expected.setGeneratedSeed(7);
+        expected.setGeneratedFilePath(Paths.get("large.json"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidGenerateSize_notGenerated() {
+        parametersStub.namedParameters.put("generate", "-1");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("generate", "many");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_launcherArguments_namedParametersRead() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setGeneratedSize(100);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--generate=100", "other"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", generatedSize=" + appParameters.getGeneratedSize()
+                + ", generatedSeed=" + appParameters.getGeneratedSeed()
+                + ", generatedFilePath=" + appParameters.getGeneratedFilePath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +96,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different generated size -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setGeneratedSize(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
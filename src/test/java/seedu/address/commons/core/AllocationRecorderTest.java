@@ -0,0 +1,71 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AllocationRecorderTest {
+
+    @Test
+    public void record_knownCounts_totalled() {
+        AllocationRecorder recorder = new AllocationRecorder("Test");
+        recorder.record("key", 4096, 1, 5);
+        recorder.record("key", 1024, 0, 0);
+
+        AllocationRecorder.AllocationTotals totals = recorder.getTotals("key");
+        assertEquals(2, totals.getCount());
+        assertEquals(5120, totals.getAllocatedBytes());
+        assertEquals(4096, totals.getMaxAllocatedBytes());
+        assertEquals(1, totals.getGcCount());
+        assertEquals(5, totals.getGcMillis());
+        assertNull(recorder.getTotals("other"));
+    }
+
+    @Test
+    public void record_unknownCounts_totalsUnknown() {
+        AllocationRecorder recorder = new AllocationRecorder("Test");
+        recorder.record("key", PhaseTimer.UNKNOWN, 1, PhaseTimer.UNKNOWN);
+        recorder.record("key", 1024, 1, 3);
+
+        AllocationRecorder.AllocationTotals totals = recorder.getTotals("key");
+        assertEquals(PhaseTimer.UNKNOWN, totals.getAllocatedBytes());
+        assertEquals(PhaseTimer.UNKNOWN, totals.getMaxAllocatedBytes());
+        assertEquals(2, totals.getGcCount());
+        assertEquals(PhaseTimer.UNKNOWN, totals.getGcMillis());
+    }
+
+    @Test
+    public void begin_measurementEnded_recordedOnce() {
+        AllocationRecorder recorder = new AllocationRecorder("Test");
+        AllocationRecorder.Measurement measurement = recorder.begin();
+        new StringBuilder("allocate").append(System.nanoTime());
+        measurement.end("key");
+        measurement.end("key");
+
+        AllocationRecorder.AllocationTotals totals = recorder.getTotals("key");
+        assertEquals(1, totals.getCount());
+        assertTrue(totals.getAllocatedBytes() >= 0 || totals.getAllocatedBytes() == PhaseTimer.UNKNOWN);
+        assertTrue(totals.getGcCount() >= 0 || totals.getGcCount() == PhaseTimer.UNKNOWN);
+    }
+
+    @Test
+    public void getReport_recorded_oneLinePerKeySorted() {
+        AllocationRecorder recorder = new AllocationRecorder("Test");
+        assertEquals("Test allocations:\n  none recorded yet", recorder.getReport());
+
+        recorder.record("zebra", 2048, 0, 0);
+        recorder.record("apple", PhaseTimer.UNKNOWN, PhaseTimer.UNKNOWN, PhaseTimer.UNKNOWN);
+
+        List<String> lines = recorder.getReport().lines().collect(Collectors.toList());
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(2).trim().startsWith("apple"));
+        assertTrue(lines.get(2).trim().endsWith("?"));
+        assertTrue(lines.get(3).trim().startsWith("zebra"));
+        assertTrue(lines.get(3).contains("2 KB"));
+    }
+}
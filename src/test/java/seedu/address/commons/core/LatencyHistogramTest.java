@@ -0,0 +1,67 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getNanosAtPercentile_nothingRecorded_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getNanosAtPercentile(50));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getNanosAtPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 10; nanos++) {
+            histogram.record(nanos);
+        }
+        histogram.record(-5);
+
+        assertEquals(11, histogram.getCount());
+        assertEquals(5, histogram.getNanosAtPercentile(50));
+        assertEquals(10, histogram.getNanosAtPercentile(100));
+        assertEquals(10, histogram.getMaxNanos());
+        assertEquals(0, histogram.getNanosAtPercentile(0));
+    }
+
+    @Test
+    public void getNanosAtPercentile_largeLatencies_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertWithinRelativeError(500_000, histogram.getNanosAtPercentile(50));
+        assertWithinRelativeError(900_000, histogram.getNanosAtPercentile(90));
+        assertWithinRelativeError(990_000, histogram.getNanosAtPercentile(99));
+        assertEquals(1_000_000, histogram.getNanosAtPercentile(100));
+        assertEquals(1_000_000, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void record_beyondLastBucket_maxExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMaxNanos());
+        assertEquals(Long.MAX_VALUE, histogram.getNanosAtPercentile(50));
+    }
+
+    @Test
+    public void getBucketIndex_everyValue_withinBucketBounds() {
+        for (long nanos = 0; nanos < 1 << 16; nanos++) {
+            int index = LatencyHistogram.getBucketIndex(nanos);
+            assertTrue(nanos <= LatencyHistogram.getBucketUpperBound(index));
+            assertTrue(index == 0 || nanos > LatencyHistogram.getBucketUpperBound(index - 1));
+        }
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, "expected about " + expected + ": " + actual);
+    }
+}
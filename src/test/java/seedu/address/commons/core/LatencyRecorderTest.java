@@ -0,0 +1,53 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    @Test
+    public void record_unknownPhase_throwsIllegalArgumentException() {
+        LatencyRecorder recorder = new LatencyRecorder("Test", "first");
+        assertThrows(IllegalArgumentException.class, () -> recorder.record("key", "second", 1));
+    }
+
+    @Test
+    public void getHistogram_recordedByKeyAndPhase() {
+        LatencyRecorder recorder = new LatencyRecorder("Test", "first", "second");
+        recorder.record("key", "first", 1);
+        recorder.record("key", "first", 2);
+
+        assertEquals(2, recorder.getHistogram("key", "first").getCount());
+        assertEquals(0, recorder.getHistogram("key", "second").getCount());
+        assertNull(recorder.getHistogram("other", "first"));
+    }
+
+    @Test
+    public void getReport_nothingRecorded_noneReported() {
+        assertEquals("Test latencies:\n  none recorded yet", new LatencyRecorder("Test", "first").getReport());
+    }
+
+    @Test
+    public void getReport_recordedPhasesOnly_keysSorted() {
+        LatencyRecorder recorder = new LatencyRecorder("Test", "first", "second");
+        recorder.record("zebra", "first", 2_000_000);
+        recorder.record("apple", "first", 1_000_000);
+        recorder.record("apple", "second", 3_000_000);
+
+        List<String> lines = recorder.getReport().lines().collect(Collectors.toList());
+        assertEquals("Test latencies:", lines.get(0));
+        assertEquals(5, lines.size());
+        assertTrue(lines.get(2).trim().startsWith("apple"));
+        assertTrue(lines.get(2).contains("first"));
+        assertTrue(lines.get(2).trim().endsWith("1.000"));
+        assertTrue(lines.get(3).trim().startsWith("second"));
+        assertTrue(lines.get(4).trim().startsWith("zebra"));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    @Test
+    public void begin_phasesClosed_timingsInOrder() {
+        PhaseTimer timer = new PhaseTimer("Test");
+        try (PhaseTimer.Phase phase = timer.begin("first")) {
+            new StringBuilder("allocate").append(System.nanoTime());
+        }
+        PhaseTimer.Phase second = timer.begin("second");
+        second.close();
+        second.close();
+
+        List<PhaseTimer.PhaseTiming> timings = timer.getTimings();
+        assertEquals(2, timings.size());
+        assertEquals("first", timings.get(0).getPhaseName());
+        assertEquals("second", timings.get(1).getPhaseName());
+        for (PhaseTimer.PhaseTiming timing : timings) {
+            assertTrue(timing.getElapsedNanos() >= 0);
+            assertTrue(timing.getAllocatedBytes() >= 0 || timing.getAllocatedBytes() == PhaseTimer.UNKNOWN);
+            assertTrue(timing.getGcCount() >= 0 || timing.getGcCount() == PhaseTimer.UNKNOWN);
+        }
+    }
+
+    @Test
+    public void getReport_phasesTimed_everyPhaseAndTotal() {
+        PhaseTimer timer = new PhaseTimer("Test");
+        timer.begin("readAddressBook").close();
+        timer.begin("createModel").close();
+
+        String[] lines = timer.getReport().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("Test phases:", lines[0]);
+        assertTrue(lines[1].contains("readAddressBook"));
+        assertTrue(lines[2].contains("createModel"));
+        assertTrue(lines[3].contains("Total"));
+    }
+
+    @Test
+    public void phaseTimingToString_unknownCounts_shownAsUnknown() {
+        PhaseTimer.PhaseTiming timing = new PhaseTimer.PhaseTiming("phase", 1_500_000, PhaseTimer.UNKNOWN,
+                PhaseTimer.UNKNOWN, PhaseTimer.UNKNOWN);
+        assertEquals(String.format("  %-20s %8.1f ms  %12s allocated  ? GCs (? ms)", "phase", 1.5, "?"),
+                timing.toString());
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TracerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_noCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Tracer(0));
+    }
+
+    @Test
+    public void begin_nestedSpans_innerWithinOuter() {
+        Tracer tracer = new Tracer(8);
+        try (Tracer.Span outer = tracer.begin(Tracer.CATEGORY_LOGIC, "outer")) {
+            Tracer.Span inner = tracer.begin(Tracer.CATEGORY_MODEL, "inner");
+            inner.close();
+            inner.close();
+        }
+
+        List<Tracer.SpanRecord> spans = tracer.getSpans();
+        assertEquals(2, spans.size());
+        Tracer.SpanRecord inner = spans.get(0);
+        Tracer.SpanRecord outer = spans.get(1);
+        assertEquals("inner", inner.getName());
+        assertEquals(Tracer.CATEGORY_MODEL, inner.getCategory());
+        assertEquals("outer", outer.getName());
+        assertEquals(Thread.currentThread().getName(), outer.getThreadName());
+        assertTrue(inner.getStartNanos() >= outer.getStartNanos());
+        assertTrue(inner.getStartNanos() + inner.getDurationNanos()
+                <= outer.getStartNanos() + outer.getDurationNanos());
+    }
+
+    @Test
+    public void begin_moreSpansThanCapacity_mostRecentKept() {
+        Tracer tracer = new Tracer(3);
+        for (int i = 0; i < 5; i++) {
+            tracer.begin(Tracer.CATEGORY_LOGIC, "span " + i).close();
+        }
+
+        List<Tracer.SpanRecord> spans = tracer.getSpans();
+        assertEquals(3, spans.size());
+        assertEquals("span 2", spans.get(0).getName());
+        assertEquals("span 4", spans.get(2).getName());
+    }
+
+    @Test
+    public void begin_disabled_nothingRecorded() {
+        Tracer tracer = new Tracer(3);
+        tracer.setEnabled(false);
+        tracer.begin(Tracer.CATEGORY_LOGIC, "ignored").close();
+        tracer.setEnabled(true);
+        tracer.begin(Tracer.CATEGORY_LOGIC, "recorded").close();
+
+        List<Tracer.SpanRecord> spans = tracer.getSpans();
+        assertEquals(1, spans.size());
+        assertEquals("recorded", spans.get(0).getName());
+    }
+
+    @Test
+    public void begin_spansOfEndedThreadOverwritten_threadForgotten() throws Exception {
+        Tracer tracer = new Tracer(2);
+        Thread thread = new Thread(() -> tracer.begin(Tracer.CATEGORY_STORAGE, "write").close(), "ended thread");
+        thread.start();
+        thread.join();
+        assertEquals("ended thread", tracer.getSpans().get(0).getThreadName());
+
+        tracer.begin(Tracer.CATEGORY_LOGIC, "first").close();
+        tracer.begin(Tracer.CATEGORY_LOGIC, "second").close();
+
+        for (Tracer.SpanRecord span : tracer.getSpans()) {
+            assertEquals(Thread.currentThread().getName(), span.getThreadName());
+        }
+    }
+
+    @Test
+    public void exportChromeTrace_spanWithArgument_argumentWritten() throws Exception {
+        Tracer tracer = new Tracer(8);
+        tracer.begin(Tracer.CATEGORY_LOGIC, "execute", "command", "add").close();
+        tracer.begin(Tracer.CATEGORY_LOGIC, "save").close();
+        Path traceFilePath = testFolder.resolve("trace.json");
+
+        tracer.exportChromeTrace(traceFilePath);
+
+        List<Tracer.SpanRecord> spans = tracer.getSpans();
+        assertEquals("command", spans.get(0).getArgName());
+        assertEquals("add", spans.get(0).getArgValue());
+        assertNull(spans.get(1).getArgName());
+        JsonNode events = new ObjectMapper().readTree(traceFilePath.toFile()).get("traceEvents");
+        assertEquals("execute", events.get(1).get("name").asText());
+        assertEquals("add", events.get(1).get("args").get("command").asText());
+        assertFalse(events.get(2).has("args"));
+    }
+
+    @Test
+    public void exportChromeTrace_spansRecorded_traceEventsWritten() throws Exception {
+        Tracer tracer = new Tracer(8);
+        tracer.begin(Tracer.CATEGORY_STORAGE, "write \"quoted\"").close();
+        Path traceFilePath = testFolder.resolve("trace.json");
+
+        tracer.exportChromeTrace(traceFilePath);
+
+        JsonNode events = new ObjectMapper().readTree(traceFilePath.toFile()).get("traceEvents");
+        assertEquals(2, events.size());
+        JsonNode threadName = events.get(0);
+        assertEquals("M", threadName.get("ph").asText());
+        assertEquals(Thread.currentThread().getName(), threadName.get("args").get("name").asText());
+        JsonNode span = events.get(1);
+        assertEquals("X", span.get("ph").asText());
+        assertEquals("write \"quoted\"", span.get("name").asText());
+        assertEquals(Tracer.CATEGORY_STORAGE, span.get("cat").asText());
+        assertEquals(threadName.get("tid").asLong(), span.get("tid").asLong());
+        assertTrue(span.get("dur").asDouble() >= 0);
+    }
+}
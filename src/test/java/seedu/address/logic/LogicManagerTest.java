@@ -12,11 +12,20 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.AllocationRecorder;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LatencyRecorder;
+import seedu.address.commons.events.CommandEvent;
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeletePersonCommand;
@@ -72,17 +81,117 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_commands_latenciesRecordedByCommandWord() throws Exception {
+        long listCount = getRecordedCount(ListPersonCommand.COMMAND_WORD, LatencyRecorder.PHASE_TOTAL);
+        long invalidCount = getRecordedCount(LogicManager.INVALID_COMMAND_WORD, LatencyRecorder.PHASE_PARSE);
+
+        logic.execute("  " + ListPersonCommand.COMMAND_WORD + "  ");
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute("deletePerson 9"));
+
+        assertEquals(listCount + 1, getRecordedCount(ListPersonCommand.COMMAND_WORD, LatencyRecorder.PHASE_TOTAL));
+        assertEquals(invalidCount + 1,
+                getRecordedCount(LogicManager.INVALID_COMMAND_WORD, LatencyRecorder.PHASE_PARSE));
+        assertEquals(getRecordedCount("deletePerson", LatencyRecorder.PHASE_PARSE),
+                getRecordedCount("deletePerson", LatencyRecorder.PHASE_EXECUTE));
+        assertEquals(getRecordedCount(ListPersonCommand.COMMAND_WORD, LatencyRecorder.PHASE_TOTAL),
+                getRecordedCount(ListPersonCommand.COMMAND_WORD, LatencyRecorder.PHASE_SAVE));
+    }
+
+    @Test
+    public void execute_commands_allocationsRecordedByCommandWord() throws Exception {
+        long listCount = getAllocationCount(ListPersonCommand.COMMAND_WORD);
+        long invalidCount = getAllocationCount(LogicManager.INVALID_COMMAND_WORD);
+
+        logic.execute(ListPersonCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(listCount + 1, getAllocationCount(ListPersonCommand.COMMAND_WORD));
+        assertEquals(invalidCount + 1, getAllocationCount(LogicManager.INVALID_COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_recording_commandEventsCommitted() throws Exception {
+        Path recordingPath = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.class);
+            recording.start();
+            logic.execute(ListPersonCommand.COMMAND_WORD);
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            assertThrows(CommandException.class, () -> logic.execute("deletePerson 9"));
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        // Other events, such as the search change made by listing persons, are enabled by default and recorded too
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.Command"))
+                .collect(Collectors.toList());
+        assertEquals(3, events.size());
+        assertEquals(ListPersonCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertEquals(CommandEvent.OUTCOME_SUCCESS, events.get(0).getString("outcome"));
+        assertEquals(model.getSortedFilteredPersonList().size(), events.get(0).getInt("shownPersons"));
+        assertEquals(LogicManager.INVALID_COMMAND_WORD, events.get(1).getString("commandWord"));
+        assertEquals(CommandEvent.OUTCOME_INVALID, events.get(1).getString("outcome"));
+        assertEquals("deletePerson", events.get(2).getString("commandWord"));
+        assertEquals(CommandEvent.OUTCOME_FAILURE, events.get(2).getString("outcome"));
+    }
+
+    private static long getAllocationCount(String commandWord) {
+        AllocationRecorder.AllocationTotals totals = AllocationRecorder.COMMANDS.getTotals(commandWord);
+        return totals == null ? 0 : totals.getCount();
+    }
+
+    private static long getRecordedCount(String commandWord, String phaseName) {
+        LatencyHistogram histogram = LatencyRecorder.COMMANDS.getHistogram(commandWord, phaseName);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_failureShownInFeedback() throws Exception {
+        assertFeedbackForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_failureShownInFeedback() throws Exception {
+        assertFeedbackForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_captureThrowsIoException_throwsCommandException() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void captureAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).build());
+        assertCommandFailure(addCommand, CommandException.class,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), expectedModel);
+    }
+
+    @Test
+    public void execute_commandWithoutChange_notSaved() throws Exception {
+        // any save would fail, so a successful command must not have saved
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void captureAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListPersonCommand.COMMAND_WORD, ListPersonCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -142,19 +251,19 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component while writing
+     * in the background.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected in the feedback of the command after the failed write
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertFeedbackForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        // Inject LogicManager with an AddressBookStorage that throws the IOException e when writing
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
-                    throws IOException {
+            public void writeCapturedAddressBook() throws IOException {
                 throw e;
             }
         };
@@ -165,12 +274,18 @@ public class LogicManagerTest {
 
         logic = new LogicManager(model, storage);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Triggers a background save by executing an add command, which itself succeeds
         String addCommand = AddPersonCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
                 + EMAIL_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddPersonCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedPerson)), expectedModel);
+        storage.flush();
+
+        // The failed write is reported with the next command
+        assertCommandSuccess(ListPersonCommand.COMMAND_WORD,
+                ListPersonCommand.MESSAGE_SUCCESS + "\n" + expectedMessage, expectedModel);
     }
 }
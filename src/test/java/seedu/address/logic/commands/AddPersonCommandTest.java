@@ -27,10 +27,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.listing.Listing;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceIndex;
 import seedu.address.model.price.PriceRange;
 import seedu.address.model.search.SearchContext;
 import seedu.address.model.search.SearchType;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddPersonCommandTest {
@@ -163,6 +165,11 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookEpoch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -248,6 +255,16 @@ public class AddPersonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public TagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PriceIndex getPriceIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Tag> getFilteredTagList() {
             throw new AssertionError("This method should not be called.");
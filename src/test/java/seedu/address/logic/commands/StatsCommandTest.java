@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.PhaseTimer;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_startup_showsStartupReport() {
+        CommandResult result = new StatsCommand(StatsCommand.Section.STARTUP).execute(new ModelManager());
+        assertTrue(result.getFeedbackToUser().startsWith("Startup phases:"));
+        assertEquals(PhaseTimer.STARTUP.getReport().lines().count(), result.getFeedbackToUser().lines().count());
+    }
+
+    @Test
+    public void execute_commands_showsCommandLatencyReport() {
+        CommandResult result = new StatsCommand(StatsCommand.Section.COMMANDS).execute(new ModelManager());
+        assertTrue(result.getFeedbackToUser().startsWith("Command latencies:"));
+    }
+
+    @Test
+    public void execute_memory_showsCommandAllocationReport() {
+        CommandResult result = new StatsCommand(StatsCommand.Section.MEMORY).execute(new ModelManager());
+        assertTrue(result.getFeedbackToUser().startsWith("Command allocations:"));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand startupCommand = new StatsCommand(StatsCommand.Section.STARTUP);
+
+        assertTrue(startupCommand.equals(startupCommand));
+        assertTrue(startupCommand.equals(new StatsCommand(StatsCommand.Section.STARTUP)));
+        assertFalse(startupCommand.equals(null));
+        assertFalse(startupCommand.equals(1));
+        assertFalse(startupCommand.equals(new StatsCommand(StatsCommand.Section.COMMANDS)));
+    }
+}
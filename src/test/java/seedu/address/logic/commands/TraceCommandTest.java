@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Tracer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class TraceCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_traceFileBesideDataFile_exported() throws Exception {
+        Model model = new ModelManager();
+        model.setAddressBookFilePath(testFolder.resolve("addressBook.json"));
+        try (Tracer.Span span = Tracer.APP.begin(Tracer.CATEGORY_LOGIC, "traceCommandTest")) {
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        }
+
+        CommandResult result = new TraceCommand().execute(model);
+
+        Path traceFilePath = testFolder.resolve(TraceCommand.TRACE_FILE_NAME);
+        assertTrue(result.getFeedbackToUser().endsWith(traceFilePath.toString()));
+        assertTrue(Files.readString(traceFilePath).contains("\"traceCommandTest\""));
+    }
+}
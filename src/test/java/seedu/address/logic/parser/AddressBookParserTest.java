@@ -19,6 +19,8 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListPersonCommand;
 import seedu.address.logic.commands.SearchPersonByName;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TraceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
@@ -74,6 +76,23 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListPersonCommand.COMMAND_WORD + " 3") instanceof ListPersonCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(StatsCommand.Section.COMMANDS), parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(StatsCommand.Section.STARTUP),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " startup"));
+        assertEquals(new StatsCommand(StatsCommand.Section.MEMORY),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " MEMORY"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(StatsCommand.COMMAND_WORD + " unknown"));
+    }
+
+    @Test
+    public void parseCommand_trace() throws Exception {
+        assertTrue(parser.parseCommand(TraceCommand.COMMAND_WORD) instanceof TraceCommand);
+        assertTrue(parser.parseCommand(TraceCommand.COMMAND_WORD + " 3") instanceof TraceCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_ARGUMENTS_EMPTY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_LIMIT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.MatchListingCommand;
+import seedu.address.model.search.comparators.TopMatches;
+
+public class MatchListingCommandParserTest {
+
+    private MatchListingCommandParser parser = new MatchListingCommandParser();
+
+    @Test
+    public void parse_withoutMatchLimit_returnsMatchListingCommand() {
+        assertParseSuccess(parser, "1", new MatchListingCommand(INDEX_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_withMatchLimit_returnsMatchListingCommand() {
+        assertParseSuccess(parser, "1 k/10", new MatchListingCommand(INDEX_FIRST_PERSON, 10));
+        assertParseSuccess(parser, " 1  k/ 10 ", new MatchListingCommand(INDEX_FIRST_PERSON, 10));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_ARGUMENTS_EMPTY, MatchListingCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidMatchLimit_throwsParseException() {
+        // missing value
+        assertParseFailure(parser, "1 k/", TopMatches.MESSAGE_CONSTRAINTS);
+
+        // zero
+        assertParseFailure(parser, "1 k/0", TopMatches.MESSAGE_CONSTRAINTS);
+
+        // negative
+        assertParseFailure(parser, "1 k/-5", TopMatches.MESSAGE_CONSTRAINTS);
+
+        // non-numeric
+        assertParseFailure(parser, "1 k/ten", TopMatches.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicateMatchLimit_throwsParseException() {
+        assertParseFailure(parser, "1 k/5 k/10", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_MATCH_LIMIT));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_EXPECTED_TWO_INDICES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_LIMIT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.MatchPreferenceCommand;
+import seedu.address.model.search.comparators.TopMatches;
+
+public class MatchPreferenceCommandParserTest {
+
+    private MatchPreferenceCommandParser parser = new MatchPreferenceCommandParser();
+
+    @Test
+    public void parse_withoutMatchLimit_returnsMatchPreferenceCommand() {
+        assertParseSuccess(parser, "1 2", new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_withMatchLimit_returnsMatchPreferenceCommand() {
+        assertParseSuccess(parser, "1 2 k/10",
+                new MatchPreferenceCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, 10));
+    }
+
+    @Test
+    public void parse_matchLimitWithOneIndex_throwsParseException() {
+        assertParseFailure(parser, "1 k/10",
+                String.format(MESSAGE_EXPECTED_TWO_INDICES, MatchPreferenceCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidMatchLimit_throwsParseException() {
+        // missing value
+        assertParseFailure(parser, "1 2 k/", TopMatches.MESSAGE_CONSTRAINTS);
+
+        // zero
+        assertParseFailure(parser, "1 2 k/0", TopMatches.MESSAGE_CONSTRAINTS);
+
+        // negative
+        assertParseFailure(parser, "1 2 k/-5", TopMatches.MESSAGE_CONSTRAINTS);
+
+        // non-numeric
+        assertParseFailure(parser, "1 2 k/ten", TopMatches.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicateMatchLimit_throwsParseException() {
+        assertParseFailure(parser, "1 2 k/5 k/10",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_MATCH_LIMIT));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -18,6 +19,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.search.comparators.TopMatches;
 import seedu.address.model.tag.Tag;
 
 public class ParserUtilTest {
@@ -54,6 +56,28 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseMatchLimit_null_returnsNull() throws Exception {
+        assertNull(ParserUtil.parseMatchLimit(null));
+    }
+
+    @Test
+    public void parseMatchLimit_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, TopMatches.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseMatchLimit(""));
+        assertThrows(ParseException.class, TopMatches.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseMatchLimit("0"));
+        assertThrows(ParseException.class, TopMatches.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseMatchLimit("-3"));
+        assertThrows(ParseException.class, TopMatches.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseMatchLimit("+3"));
+        assertThrows(ParseException.class, TopMatches.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseMatchLimit("ten"));
+        assertThrows(ParseException.class, TopMatches.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parseMatchLimit(Long.toString(Integer.MAX_VALUE + 1L)));
+    }
+
+    @Test
+    public void parseMatchLimit_validValueWithWhitespace_returnsTrimmedLimit() throws Exception {
+        assertEquals(Integer.valueOf(10), ParserUtil.parseMatchLimit("10"));
+        assertEquals(Integer.valueOf(10), ParserUtil.parseMatchLimit(WHITESPACE + "10" + WHITESPACE));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import seedu.address.model.listing.Listing;
@@ -62,6 +64,55 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withValidReadOnlyAddressBook_publishesSingleChange() {
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void bulkUpdate_changesPublishedWhenOutermostUpdateEnds() {
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        addressBook.beginBulkUpdate();
+        addressBook.beginBulkUpdate();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.endBulkUpdate();
+
+        // changes are visible through the address book but not yet published
+        assertTrue(addressBook.hasPerson(BENSON));
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+        assertEquals(0, changeCount[0]);
+
+        addressBook.endBulkUpdate();
+        assertEquals(Arrays.asList(ALICE, BENSON), addressBook.getPersonList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void getEpoch_afterChanges_incremented() {
+        long epoch = addressBook.getEpoch();
+        addressBook.hasPerson(ALICE);
+        assertEquals(epoch, addressBook.getEpoch());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getEpoch() > epoch);
+
+        // an element edited in place is set over itself
+        epoch = addressBook.getEpoch();
+        addressBook.setPerson(ALICE, ALICE);
+        assertTrue(addressBook.getEpoch() > epoch);
+
+        epoch = addressBook.getEpoch();
+        addressBook.addTag("pool");
+        assertTrue(addressBook.getEpoch() > epoch);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -0,0 +1,280 @@
+package seedu.address.model.listing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.exceptions.DuplicateListingException;
+import seedu.address.model.listing.exceptions.ListingNotFoundException;
+import seedu.address.testutil.ListingBuilder;
+
+public class UniqueListingListTest {
+
+    private static final Listing UNIT = new ListingBuilder().withPostalCode("123456").withUnitNumber("10-12")
+            .withPriceRange("300000", "400000").build();
+    private static final Listing OTHER_UNIT = new ListingBuilder().withPostalCode("123456").withUnitNumber("10-13")
+            .withPriceRange("500000", "600000").build();
+    private static final Listing HOUSE = new ListingBuilder().withPostalCode("123456").withHouseNumber("12")
+            .withPriceRange("700000", "800000").build();
+    private static final Listing OTHER_HOUSE = new ListingBuilder().withPostalCode("654321").withHouseNumber("12")
+            .withPriceRange("900000", "1000000").build();
+
+    private final UniqueListingList uniqueListingList = new UniqueListingList();
+
+    @Test
+    public void contains_nullListing_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.contains(null));
+    }
+
+    @Test
+    public void contains_listingNotInList_returnsFalse() {
+        assertFalse(uniqueListingList.contains(UNIT));
+    }
+
+    @Test
+    public void contains_listingInList_returnsTrue() {
+        uniqueListingList.add(UNIT);
+        assertTrue(uniqueListingList.contains(UNIT));
+    }
+
+    @Test
+    public void contains_listingWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueListingList.add(UNIT);
+        Listing editedUnit = new ListingBuilder().withPostalCode("123456").withUnitNumber("10-12")
+                .withPriceRange("350000", "450000").withAvailability(false).build();
+        assertTrue(uniqueListingList.contains(editedUnit));
+    }
+
+    @Test
+    public void contains_houseAtPostalCodeOfUnitInList_returnsFalse() {
+        uniqueListingList.add(UNIT);
+        assertFalse(uniqueListingList.contains(HOUSE));
+        assertFalse(uniqueListingList.contains(OTHER_UNIT));
+    }
+
+    @Test
+    public void contains_houseNumberAtOtherPostalCode_returnsFalse() {
+        uniqueListingList.add(HOUSE);
+        assertFalse(uniqueListingList.contains(OTHER_HOUSE));
+    }
+
+    @Test
+    public void add_nullListing_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.add(null));
+    }
+
+    @Test
+    public void add_duplicateListing_throwsDuplicateListingException() {
+        uniqueListingList.add(UNIT);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.add(UNIT));
+    }
+
+    @Test
+    public void add_unitAndHouseAtSamePostalCode_bothAdded() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.add(HOUSE);
+        assertTrue(uniqueListingList.contains(UNIT));
+        assertTrue(uniqueListingList.contains(HOUSE));
+        assertEquals(List.of(UNIT, HOUSE), uniqueListingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setListing_nullTargetListing_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.setListing(null, UNIT));
+    }
+
+    @Test
+    public void setListing_nullEditedListing_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.setListing(UNIT, null));
+    }
+
+    @Test
+    public void setListing_targetListingNotInList_throwsListingNotFoundException() {
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.setListing(UNIT, UNIT));
+    }
+
+    @Test
+    public void setListing_targetWithSameIdentityButDifferentFields_throwsListingNotFoundException() {
+        uniqueListingList.add(UNIT);
+        Listing editedUnit = new ListingBuilder().withPostalCode("123456").withUnitNumber("10-12").build();
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.setListing(editedUnit, UNIT));
+    }
+
+    @Test
+    public void setListing_editedListingIsSameListing_success() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.setListing(UNIT, UNIT);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(UNIT);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+    }
+
+    @Test
+    public void setListing_editedListingHasSameIdentity_success() {
+        uniqueListingList.add(UNIT);
+        Listing editedUnit = new ListingBuilder().withPostalCode("123456").withUnitNumber("10-12")
+                .withAvailability(false).build();
+        uniqueListingList.setListing(UNIT, editedUnit);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(editedUnit);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+        assertTrue(uniqueListingList.contains(UNIT));
+    }
+
+    @Test
+    public void setListing_unitReplacedByHouseAtSamePostalCode_oldIdentityReleased() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.setListing(UNIT, HOUSE);
+        assertFalse(uniqueListingList.contains(UNIT));
+        assertTrue(uniqueListingList.contains(HOUSE));
+
+        uniqueListingList.add(UNIT);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(HOUSE);
+        expectedUniqueListingList.add(UNIT);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+    }
+
+    @Test
+    public void setListing_editedListingHasNonUniqueIdentity_throwsDuplicateListingException() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.add(HOUSE);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListing(UNIT, HOUSE));
+        assertTrue(uniqueListingList.contains(UNIT));
+    }
+
+    @Test
+    public void remove_nullListing_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.remove(null));
+    }
+
+    @Test
+    public void remove_listingDoesNotExist_throwsListingNotFoundException() {
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.remove(UNIT));
+    }
+
+    @Test
+    public void remove_existingListing_removesListing() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.remove(UNIT);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+    }
+
+    @Test
+    public void remove_listingWithSameIdentityButDifferentFields_throwsListingNotFoundException() {
+        uniqueListingList.add(UNIT);
+        Listing editedUnit = new ListingBuilder().withPostalCode("123456").withUnitNumber("10-12").build();
+        assertThrows(ListingNotFoundException.class, () -> uniqueListingList.remove(editedUnit));
+    }
+
+    @Test
+    public void remove_earlierListing_laterListingsStillFound() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.add(OTHER_UNIT);
+        uniqueListingList.add(HOUSE);
+        uniqueListingList.add(OTHER_HOUSE);
+        uniqueListingList.remove(UNIT);
+        assertFalse(uniqueListingList.contains(UNIT));
+        assertTrue(uniqueListingList.contains(HOUSE));
+
+        // Each remaining listing must still be found at its new position
+        uniqueListingList.remove(OTHER_HOUSE);
+        uniqueListingList.setListing(HOUSE, UNIT);
+        uniqueListingList.remove(OTHER_UNIT);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(UNIT);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+    }
+
+    @Test
+    public void setListings_nullUniqueListingList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.setListings((UniqueListingList) null));
+    }
+
+    @Test
+    public void setListings_uniqueListingList_replacesOwnListWithProvidedUniqueListingList() {
+        uniqueListingList.add(UNIT);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(HOUSE);
+        expectedUniqueListingList.add(OTHER_UNIT);
+        uniqueListingList.setListings(expectedUniqueListingList);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+
+        assertFalse(uniqueListingList.contains(UNIT));
+        uniqueListingList.remove(HOUSE);
+        uniqueListingList.setListing(OTHER_UNIT, UNIT);
+        assertTrue(uniqueListingList.contains(UNIT));
+    }
+
+    @Test
+    public void setListings_uniqueListingListChangedAfterwards_ownListUnchanged() {
+        UniqueListingList replacement = new UniqueListingList();
+        replacement.add(UNIT);
+        uniqueListingList.setListings(replacement);
+        replacement.remove(UNIT);
+        replacement.add(HOUSE);
+
+        assertTrue(uniqueListingList.contains(UNIT));
+        assertFalse(uniqueListingList.contains(HOUSE));
+        uniqueListingList.remove(UNIT);
+    }
+
+    @Test
+    public void setListings_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueListingList.setListings((List<Listing>) null));
+    }
+
+    @Test
+    public void setListings_list_replacesOwnListWithProvidedList() {
+        uniqueListingList.add(UNIT);
+        uniqueListingList.add(OTHER_UNIT);
+        List<Listing> listingList = Arrays.asList(HOUSE, OTHER_UNIT);
+        uniqueListingList.setListings(listingList);
+        UniqueListingList expectedUniqueListingList = new UniqueListingList();
+        expectedUniqueListingList.add(HOUSE);
+        expectedUniqueListingList.add(OTHER_UNIT);
+        assertEquals(expectedUniqueListingList, uniqueListingList);
+
+        assertFalse(uniqueListingList.contains(UNIT));
+        uniqueListingList.remove(HOUSE);
+        uniqueListingList.remove(OTHER_UNIT);
+        assertEquals(new UniqueListingList(), uniqueListingList);
+    }
+
+    @Test
+    public void setListings_listWithUnitAndHouseAtSamePostalCode_success() {
+        uniqueListingList.setListings(Arrays.asList(UNIT, HOUSE));
+        assertTrue(uniqueListingList.contains(UNIT));
+        assertTrue(uniqueListingList.contains(HOUSE));
+    }
+
+    @Test
+    public void setListings_listWithDuplicateListings_throwsDuplicateListingException() {
+        uniqueListingList.add(UNIT);
+        List<Listing> listWithDuplicateListings = Arrays.asList(HOUSE, HOUSE);
+        assertThrows(DuplicateListingException.class, () -> uniqueListingList.setListings(listWithDuplicateListings));
+
+        // The list is left as it was
+        assertTrue(uniqueListingList.contains(UNIT));
+        assertEquals(Collections.singletonList(UNIT), uniqueListingList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueListingList.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(uniqueListingList.asUnmodifiableObservableList().toString(), uniqueListingList.toString());
+    }
+}
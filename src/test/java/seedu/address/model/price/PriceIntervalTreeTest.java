@@ -0,0 +1,82 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceIntervalTreeTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void forEachOverlapping_randomRanges_matchesLinearScan() {
+        PriceIntervalTree<Integer> tree = new PriceIntervalTree<>();
+        List<PriceRange> ranges = new ArrayList<>();
+        // Values are compared by reference, so each is boxed once and the same instance is later removed
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            PriceRange range = randomRange();
+            ranges.add(range);
+            values.add(i);
+            tree.insert(range, values.get(i));
+        }
+
+        // Remove every third range to exercise rebalancing on deletion
+        Set<Integer> removed = new HashSet<>();
+        for (int i = 0; i < ranges.size(); i += 3) {
+            tree.remove(values.get(i));
+            removed.add(i);
+        }
+        assertEquals(ranges.size() - removed.size(), tree.size());
+
+        for (int q = 0; q < 200; q++) {
+            PriceRange query = randomRange();
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                if (!removed.contains(i) && ranges.get(i).doPriceRangeOverlap(query)) {
+                    expected.add(i);
+                }
+            }
+
+            Set<Integer> actual = new HashSet<>();
+            tree.forEachOverlapping(query, actual::add);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void insert_sameValueTwice_replacesRange() {
+        PriceIntervalTree<String> tree = new PriceIntervalTree<>();
+        tree.insert(new PriceRange(new Price("100"), new Price("200")), "listing");
+        tree.insert(new PriceRange(new Price("500"), new Price("600")), "listing");
+        assertEquals(1, tree.size());
+
+        List<String> found = new ArrayList<>();
+        tree.forEachOverlapping(new PriceRange(new Price("150"), true), found::add);
+        assertEquals(List.of(), found);
+    }
+
+    private PriceRange randomRange() {
+        int kind = random.nextInt(5);
+        Price lower = new Price(String.valueOf(random.nextInt(1000)));
+        Price upper = new Price(String.valueOf(1000 + random.nextInt(1000)));
+        switch (kind) {
+        case 0:
+            return new PriceRange();
+        case 1:
+            return new PriceRange(lower, false);
+        case 2:
+            return new PriceRange(upper, true);
+        default:
+            Price first = new Price(String.valueOf(random.nextInt(2000)));
+            Price second = new Price(String.valueOf(random.nextInt(2000)));
+            return first.compare(second) <= 0 ? new PriceRange(first, second) : new PriceRange(second, first);
+        }
+    }
+}
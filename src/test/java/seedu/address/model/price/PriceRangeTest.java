@@ -0,0 +1,44 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceRangeTest {
+
+    private final PriceRange unbounded = new PriceRange();
+    private final PriceRange upTo100 = new PriceRange(new Price("100"), true);
+    private final PriceRange from200 = new PriceRange(new Price("200"), false);
+    private final PriceRange from50To150 = new PriceRange(new Price("50"), new Price("150"));
+    private final PriceRange from150To250 = new PriceRange(new Price("150"), new Price("250"));
+
+    @Test
+    public void doPriceRangeOverlap_disjointRanges_returnsFalseBothWays() {
+        assertFalse(upTo100.doPriceRangeOverlap(from200));
+        assertFalse(from200.doPriceRangeOverlap(upTo100));
+        assertFalse(upTo100.doPriceRangeOverlap(from150To250));
+        assertFalse(from150To250.doPriceRangeOverlap(upTo100));
+    }
+
+    @Test
+    public void doPriceRangeOverlap_overlappingRanges_returnsTrueBothWays() {
+        assertTrue(upTo100.doPriceRangeOverlap(from50To150));
+        assertTrue(from50To150.doPriceRangeOverlap(upTo100));
+        assertTrue(from200.doPriceRangeOverlap(from150To250));
+        assertTrue(from150To250.doPriceRangeOverlap(from200));
+    }
+
+    @Test
+    public void doPriceRangeOverlap_touchingBounds_returnsTrue() {
+        assertTrue(from50To150.doPriceRangeOverlap(from150To250));
+        assertTrue(from150To250.doPriceRangeOverlap(from50To150));
+    }
+
+    @Test
+    public void doPriceRangeOverlap_unboundedRange_returnsTrue() {
+        assertTrue(unbounded.doPriceRangeOverlap(upTo100));
+        assertTrue(from200.doPriceRangeOverlap(unbounded));
+        assertTrue(unbounded.doPriceRangeOverlap(unbounded));
+    }
+}
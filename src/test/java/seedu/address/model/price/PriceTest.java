@@ -0,0 +1,86 @@
+package seedu.address.model.price;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+public class PriceTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Price(null));
+    }
+
+    @Test
+    public void constructor_invalidPrice_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Price("1.234"));
+    }
+
+    @Test
+    public void isValidPrice() {
+        // null price is an unbounded end
+        assertTrue(Price.isValidPrice(null));
+
+        // invalid prices
+        assertFalse(Price.isValidPrice("")); // empty string
+        assertFalse(Price.isValidPrice(".5")); // no whole part
+        assertFalse(Price.isValidPrice("5.")); // no decimal places after period
+        assertFalse(Price.isValidPrice("5.123")); // too many decimal places
+        assertFalse(Price.isValidPrice("-5")); // negative
+        assertFalse(Price.isValidPrice("5 000")); // spaces within digits
+        assertFalse(Price.isValidPrice("99999999999999999999")); // too large
+
+        // valid prices
+        assertTrue(Price.isValidPrice("0"));
+        assertTrue(Price.isValidPrice("500000"));
+        assertTrue(Price.isValidPrice("500000.5"));
+        assertTrue(Price.isValidPrice("500000.50"));
+    }
+
+    @Test
+    public void cents() {
+        assertEquals(0, new Price("0").cents);
+        assertEquals(50000050, new Price("500000.5").cents);
+        assertEquals(50000005, new Price("500000.05").cents);
+    }
+
+    @Test
+    public void toBigDecimal_keepsDecimalPlaces() {
+        assertEquals(new BigDecimal("500000"), new Price("500000").toBigDecimal());
+        assertEquals(new BigDecimal("500000.5"), new Price("500000.5").toBigDecimal());
+        assertEquals(new BigDecimal("500000.50"), new Price("500000.50").toBigDecimal());
+        assertEquals("$7.05", new Price("007.05").toString());
+    }
+
+    @Test
+    public void compare() {
+        assertEquals(0, new Price("1.5").compare(new Price("1.50")));
+        assertEquals(1, new Price("2").compare(new Price("1.99")));
+        assertEquals(-1, new Price("1.99").compare(new Price("2")));
+    }
+
+    @Test
+    public void equals() {
+        Price price = new Price("1.5");
+
+        // same values -> returns true
+        assertTrue(price.equals(new Price("1.50")));
+
+        // same object -> returns true
+        assertTrue(price.equals(price));
+
+        // null -> returns false
+        assertFalse(price.equals(null));
+
+        // different types -> returns false
+        assertFalse(price.equals(1.5f));
+
+        // different values -> returns false
+        assertFalse(price.equals(new Price("1.05")));
+    }
+}
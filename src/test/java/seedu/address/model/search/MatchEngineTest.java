@@ -0,0 +1,70 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceIndex;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class MatchEngineTest {
+
+    private final Tag pool = new Tag("pool", List.of(), List.of());
+    private final Tag gym = new Tag("gym", List.of(), List.of());
+
+    @Test
+    public void matchAll_ranksBuyersAndSkipsUnavailableListings() throws Exception {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+        alice.addPropertyPreference(new PropertyPreference(createRange("0", "100"), Set.of(pool, gym), alice));
+        Person bob = new PersonBuilder().withName("Bob").withPhone("92222222").build();
+        bob.addPropertyPreference(new PropertyPreference(createRange("0", "100"), Set.of(), bob));
+        Person carol = new PersonBuilder().withName("Carol").withPhone("93333333").build();
+        carol.addPropertyPreference(new PropertyPreference(createRange("500", "600"), Set.of(), carol));
+
+        Listing cheapPool = new ListingBuilder().withPostalCode("111111").withPriceRange("50", "60")
+                .withTags(pool).build();
+        Listing expensive = new ListingBuilder().withPostalCode("222222").withPriceRange("550", "560").build();
+        Listing unavailable = new ListingBuilder().withPostalCode("333333").withPriceRange("50", "60")
+                .withTags(pool).withAvailability(false).build();
+
+        ObservableList<Listing> listings = FXCollections.observableArrayList(cheapPool, expensive, unavailable);
+        ObservableList<Person> persons = FXCollections.observableArrayList(alice, bob, carol);
+        MatchEngine engine = new MatchEngine(new PriceIndex(listings, persons), new TagIndex(listings, persons));
+
+        MatchTable table = engine.matchAll(listings, new ForkJoinPool(2));
+
+        assertEquals(2, table.getListingCount());
+        assertEquals(3, table.getMatchCount());
+        assertEquals(cheapPool, table.getListing(0));
+        assertEquals(List.of(alice, bob), table.getRankedBuyers(0));
+        assertEquals(2, table.getScore(0, 0));
+        assertEquals(1, table.getScore(0, 1));
+        assertEquals(List.of(carol), table.getRankedBuyers(1));
+
+        StringWriter csv = new StringWriter();
+        table.writeCsv(csv);
+        assertEquals(MatchTable.CSV_HEADER + "\n"
+                + "111111,10-12,,1,Alice,91111111,2\n"
+                + "111111,10-12,,2,Bob,92222222,1\n"
+                + "222222,10-12,,1,Carol,93333333,1\n", csv.toString());
+    }
+
+    private PriceRange createRange(String lower, String upper) {
+        return new PriceRange(new Price(lower), new Price(upper));
+    }
+}
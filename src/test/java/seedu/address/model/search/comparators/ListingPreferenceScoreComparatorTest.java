@@ -0,0 +1,75 @@
+package seedu.address.model.search.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ListingPreferenceScoreComparatorTest {
+
+    private final Tag pool = new Tag("pool", List.of(), List.of());
+    private final Tag gym = new Tag("gym", List.of(), List.of());
+
+    private final Person owner = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+    private final Listing poolAndGymInRange = new ListingBuilder().withPostalCode("111111")
+            .withPriceRange("100", "100").withTags(pool, gym).build();
+    private final Listing poolOutOfRange = new ListingBuilder().withPostalCode("222222")
+            .withPriceRange("900", "900").withTags(pool).build();
+    private final Listing noMatch = new ListingBuilder().withPostalCode("333333")
+            .withPriceRange("900", "900").build();
+
+    @Test
+    public void score() {
+        PropertyPreference preference = createPreference(Set.of(pool, gym));
+        assertEquals(3, ListingPreferenceScoreComparator.score(preference, poolAndGymInRange));
+        assertEquals(1, ListingPreferenceScoreComparator.score(preference, poolOutOfRange));
+        assertEquals(0, ListingPreferenceScoreComparator.score(preference, noMatch));
+    }
+
+    @Test
+    public void compare_precomputedAndUnscoredCandidates_ordersByDescendingScore() {
+        PropertyPreference preference = createPreference(Set.of(pool, gym));
+        List<Listing> listings = new ArrayList<>(List.of(noMatch, poolOutOfRange, poolAndGymInRange));
+
+        listings.sort(new ListingPreferenceScoreComparator(preference, List.of(noMatch, poolAndGymInRange)));
+
+        assertEquals(List.of(poolAndGymInRange, poolOutOfRange, noMatch), listings);
+    }
+
+    @Test
+    public void compare_twoComparators_scoreIndependently() {
+        ListingPreferenceScoreComparator poolAndGymComparator =
+                new ListingPreferenceScoreComparator(createPreference(Set.of(pool, gym)));
+        ListingPreferenceScoreComparator noTagsComparator =
+                new ListingPreferenceScoreComparator(createPreference(Set.of()));
+
+        assertEquals(1, poolAndGymComparator.compare(poolOutOfRange, poolAndGymInRange));
+        assertTrue(noTagsComparator.compare(poolOutOfRange, noMatch) < 0); // tie broken by postal code
+    }
+
+    @Test
+    public void personListingScore_bestPreferenceCounts() {
+        Person buyer = new PersonBuilder().withName("Bob").withPhone("92222222").build();
+        buyer.addPropertyPreference(createPreference(Set.of()));
+        buyer.addPropertyPreference(createPreference(Set.of(pool, gym)));
+
+        assertEquals(3, PersonListingScoreComparator.score(poolAndGymInRange, buyer));
+    }
+
+    private PropertyPreference createPreference(Set<Tag> tags) {
+        return new PropertyPreference(new PriceRange(new Price("50"), new Price("150")), tags, owner);
+    }
+}
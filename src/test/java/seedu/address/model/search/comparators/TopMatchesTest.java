@@ -0,0 +1,65 @@
+package seedu.address.model.search.comparators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class TopMatchesTest {
+
+    @Test
+    public void select_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TopMatches.select(List.of(1), 0, value -> value,
+                Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void select_fewerCandidatesThanLimit_returnsAllBestFirst() {
+        assertEquals(List.of(3, 2, 1), TopMatches.select(List.of(1, 3, 2), 5, value -> value,
+                Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void select_tiedScores_brokenByTieBreaker() {
+        // Every candidate scores the same, so the order comes from the tie breaker alone
+        assertEquals(List.of(1, 2), TopMatches.select(List.of(4, 2, 3, 1), 2, value -> 0,
+                Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void select_shuffledCandidates_matchesFullSort() {
+        Random random = new Random(42);
+        List<Integer> candidates = IntStream.range(0, 500).boxed().collect(Collectors.toCollection(ArrayList::new));
+        Comparator<Integer> byScoreThenValue = Comparator.<Integer>comparingInt(value -> -(value % 7))
+                .thenComparing(Comparator.naturalOrder());
+        List<Integer> expected = candidates.stream().sorted(byScoreThenValue).limit(20).toList();
+
+        for (int i = 0; i < 5; i++) {
+            Collections.shuffle(candidates, random);
+            assertEquals(expected, TopMatches.select(candidates, 20, value -> value % 7, Comparator.naturalOrder()));
+        }
+    }
+
+    @Test
+    public void offer_candidateOfferedAgain_keptOnce() {
+        TopMatches<String> topMatches = new TopMatches<>(2, String::length, Comparator.naturalOrder());
+        String best = "ccc";
+        String worst = "a";
+
+        for (String candidate : List.of(best, "bb", worst, best, worst, "bb")) {
+            topMatches.offer(candidate);
+        }
+
+        assertEquals(List.of("ccc", "bb"), topMatches.getMatches());
+        // The held "ccc" and "bb" are skipped when offered again, while the dropped "a" is scored again
+        assertEquals(4, topMatches.getScoredCount());
+    }
+}
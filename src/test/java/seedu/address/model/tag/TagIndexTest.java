@@ -0,0 +1,87 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+import seedu.address.testutil.ListingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final Tag pool = new Tag("pool", List.of(), List.of());
+    private final Tag gym = new Tag("gym", List.of(), List.of());
+    private final Tag quiet = new Tag("quiet", List.of(), List.of());
+
+    private ObservableList<Listing> listings;
+    private ObservableList<Person> persons;
+    private TagIndex tagIndex;
+    private Listing poolAndGym;
+    private Listing poolOnly;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        poolAndGym = new ListingBuilder().withPostalCode("111111").withTags(pool, gym).build();
+        poolOnly = new ListingBuilder().withPostalCode("222222").withTags(pool).build();
+        listings = FXCollections.observableArrayList(poolAndGym, poolOnly);
+
+        alice = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+        alice.addPropertyPreference(new PropertyPreference(new PriceRange(), Set.of(pool), alice));
+        alice.addPropertyPreference(new PropertyPreference(new PriceRange(), Set.of(gym), alice));
+        bob = new PersonBuilder().withName("Bob").withPhone("92222222").build();
+        bob.addPropertyPreference(new PropertyPreference(new PriceRange(), Set.of(pool, gym, quiet), bob));
+        persons = FXCollections.observableArrayList(alice, bob);
+
+        tagIndex = new TagIndex(listings, persons);
+    }
+
+    @Test
+    public void getListingsWithAllTags_multipleTags_returnsIntersection() {
+        assertEquals(Set.of(poolAndGym), Set.copyOf(tagIndex.getListingsWithAllTags(Set.of("pool", "GYM"))));
+        assertEquals(Set.of(poolAndGym, poolOnly), Set.copyOf(tagIndex.getListingsWithAllTags(Set.of("Pool"))));
+    }
+
+    @Test
+    public void getListingsWithAllTags_unusedTag_returnsEmpty() {
+        assertTrue(tagIndex.getListingsWithAllTags(Set.of("pool", "quiet")).isEmpty());
+        assertTrue(tagIndex.getListingsWithAllTags(Set.of()).isEmpty());
+    }
+
+    @Test
+    public void getListingsWithAllTags_listChanged_reflectsChange() {
+        tagIndex.getListingsWithAllTags(Set.of("pool"));
+        listings.remove(poolAndGym);
+        assertEquals(Set.of(poolOnly), Set.copyOf(tagIndex.getListingsWithAllTags(Set.of("pool"))));
+    }
+
+    @Test
+    public void getPersonsWithPreferenceWithAllTags_tagsSplitAcrossPreferences_notMatched() {
+        assertEquals(Set.of(bob), Set.copyOf(tagIndex.getPersonsWithPreferenceWithAllTags(Set.of("pool", "gym"))));
+        assertEquals(Set.of(alice, bob), Set.copyOf(tagIndex.getPersonsWithPreferenceWithAllTags(Set.of("gym"))));
+    }
+
+    @Test
+    public void forEachListingWithAnyTag_passesListingOncePerTag() {
+        List<Listing> found = new ArrayList<>();
+        tagIndex.forEachListingWithAnyTag(Set.of("pool", "GYM", "quiet"), found::add);
+
+        assertEquals(2, Collections.frequency(found, poolAndGym));
+        assertEquals(1, Collections.frequency(found, poolOnly));
+        assertEquals(3, found.size());
+    }
+}
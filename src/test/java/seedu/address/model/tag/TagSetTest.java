@@ -0,0 +1,113 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag pool = new Tag("pool", List.of(), List.of());
+    private final Tag gym = new Tag("gym", List.of(), List.of());
+    private final Tag quiet = new Tag("quiet", List.of(), List.of());
+
+    @Test
+    public void of_duplicateTagNames_keepsFirst() {
+        Tag otherPool = new Tag("POOL", List.of(), List.of());
+        TagSet tags = TagSet.of(List.of(pool, otherPool, gym));
+
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(otherPool));
+        assertTrue(tags.stream().anyMatch(tag -> tag == pool));
+        assertEquals(Set.of(pool, gym), tags);
+    }
+
+    @Test
+    public void withAndWithout_returnModifiedCopies() {
+        TagSet poolOnly = TagSet.EMPTY.with(pool);
+        TagSet poolAndGym = poolOnly.with(gym);
+
+        assertEquals(Set.of(pool), poolOnly);
+        assertEquals(Set.of(pool, gym), poolAndGym);
+        assertSame(poolAndGym, poolAndGym.with(gym));
+        assertEquals(Set.of(gym), poolAndGym.without(pool));
+        assertSame(poolOnly, poolOnly.without(quiet));
+    }
+
+    @Test
+    public void countCommonAndIntersects() {
+        TagSet poolAndGym = TagSet.of(Set.of(pool, gym));
+        TagSet gymAndQuiet = TagSet.of(Set.of(gym, quiet));
+
+        assertEquals(1, poolAndGym.countCommon(gymAndQuiet));
+        assertEquals(2, poolAndGym.countCommon(poolAndGym));
+        assertEquals(0, TagSet.EMPTY.countCommon(poolAndGym));
+        assertTrue(poolAndGym.intersects(gymAndQuiet));
+        assertFalse(TagSet.of(Set.of(pool)).intersects(TagSet.of(Set.of(quiet))));
+    }
+
+    @Test
+    public void containsAll() {
+        TagSet poolAndGym = TagSet.of(Set.of(pool, gym));
+
+        assertTrue(poolAndGym.containsAll(TagSet.of(Set.of(gym))));
+        assertTrue(poolAndGym.containsAll(TagSet.EMPTY));
+        assertFalse(poolAndGym.containsAll(TagSet.of(Set.of(gym, quiet))));
+        assertFalse(TagSet.EMPTY.containsAll(TagSet.of(Set.of(quiet))));
+        assertTrue(poolAndGym.containsAll(Set.of(pool)));
+    }
+
+    @Test
+    public void tagsWithAndWithoutIds_comparedByTagName() {
+        UniqueTagMap tagMap = new UniqueTagMap();
+        tagMap.add(pool);
+        tagMap.add(gym);
+        Tag unmappedGym = new Tag("gym", List.of(), List.of());
+        TagSet poolAndGym = TagSet.of(List.of(pool, gym));
+        TagSet gymAndQuiet = TagSet.of(List.of(unmappedGym, quiet));
+
+        assertEquals(2, poolAndGym.countCommon(TagSet.of(List.of(gym, pool))));
+        assertEquals(1, poolAndGym.countCommon(gymAndQuiet));
+        assertEquals(1, gymAndQuiet.countCommon(poolAndGym));
+        assertTrue(poolAndGym.intersects(gymAndQuiet));
+        assertTrue(poolAndGym.contains(unmappedGym));
+        assertTrue(gymAndQuiet.contains(gym));
+        assertEquals(Set.of(pool), poolAndGym.without(unmappedGym));
+        assertSame(poolAndGym, poolAndGym.with(unmappedGym));
+    }
+
+    @Test
+    public void tagsWithIdsFromDifferentMaps_comparedByTagName() {
+        UniqueTagMap tagMap = new UniqueTagMap();
+        tagMap.add(pool);
+        tagMap.add(gym);
+        Tag otherGym = new Tag("gym", List.of(), List.of());
+        Tag otherQuiet = new Tag("quiet", List.of(), List.of());
+        UniqueTagMap otherTagMap = new UniqueTagMap();
+        otherTagMap.add(otherQuiet);
+        otherTagMap.add(otherGym);
+
+        // Both maps gave out IDs 0 and 1, to tags of different names
+        TagSet poolAndGym = TagSet.of(List.of(pool, gym));
+        TagSet otherGymAndQuiet = TagSet.of(List.of(otherGym, otherQuiet));
+        assertEquals(1, poolAndGym.countCommon(otherGymAndQuiet));
+        assertTrue(poolAndGym.contains(otherGym));
+        assertFalse(poolAndGym.contains(otherQuiet));
+        assertFalse(poolAndGym.containsAll(otherGymAndQuiet));
+        assertFalse(poolAndGym.equals(otherGymAndQuiet));
+        assertEquals(TagSet.of(List.of(gym)), TagSet.of(List.of(otherGym)));
+    }
+
+    @Test
+    public void modification_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(pool));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(gym));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(pool));
+    }
+}
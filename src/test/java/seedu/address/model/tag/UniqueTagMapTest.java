@@ -68,6 +68,15 @@ public class UniqueTagMapTest {
         assertEquals(tag1, uniqueTagMap.get("HDB"));
     }
 
+    @Test
+    public void containsTagName_anyCase_success() {
+        uniqueTagMap.add(tag1);
+        assertTrue(uniqueTagMap.containsTagName("hdb"));
+        assertTrue(uniqueTagMap.containsTagName("Hdb"));
+        assertTrue(uniqueTagMap.containsTagName("hdb")); // cached key
+        assertFalse(uniqueTagMap.containsTagName("condo"));
+    }
+
     @Test
     public void getTag_nonExistentTag_throwsTagNotFoundException() {
         assertThrows(TagNotFoundException.class, () -> uniqueTagMap.get("LANDED"));
@@ -106,6 +115,73 @@ public class UniqueTagMapTest {
         assertThrows(DuplicateTagException.class, () -> uniqueTagMap.setTag(tag1, tag2));
     }
 
+    @Test
+    public void add_tagsWithoutIds_givesLowestUnusedIds() {
+        Tag tag3 = new Tag("LANDED", new ArrayList<>(), new ArrayList<>());
+        Tag tag4 = new Tag("EC", new ArrayList<>(), new ArrayList<>());
+        UniqueTagMap tagMap = new UniqueTagMap();
+        tagMap.add(tag3);
+        tagMap.add(tag4);
+        assertEquals(0, tag3.getId());
+        assertEquals(1, tag4.getId());
+
+        // The ID of a removed tag is given to the next tag added
+        tagMap.remove(tag3);
+        Tag tag5 = new Tag("PENTHOUSE", new ArrayList<>(), new ArrayList<>());
+        tagMap.add(tag5);
+        assertEquals(0, tag5.getId());
+    }
+
+    @Test
+    public void setTag_replacementWithoutId_takesOverId() {
+        uniqueTagMap.add(tag2);
+        uniqueTagMap.add(tag1);
+        int id = tag1.getId();
+
+        uniqueTagMap.setTag(tag1, tag1);
+        assertEquals(id, tag1.getId());
+
+        Tag editedTag = new Tag("HDB", new ArrayList<>(), new ArrayList<>());
+        uniqueTagMap.setTag(tag1, editedTag);
+        assertEquals(id, editedTag.getId());
+    }
+
+    @Test
+    public void setTags_tagsWithOwnIds_keepIds() {
+        // tag1 and tag2 were given IDs 0 and 1 by this map in setUp
+        Tag tag3 = new Tag("LANDED", new ArrayList<>(), new ArrayList<>());
+
+        uniqueTagMap.setTags(List.of(tag3, tag2, tag1));
+        assertEquals(0, tag1.getId());
+        assertEquals(1, tag2.getId());
+        assertEquals(2, tag3.getId());
+    }
+
+    @Test
+    public void addAndSetTags_tagsFromAnotherMap_givenNewIds() {
+        UniqueTagMap otherTagMap = new UniqueTagMap();
+        Tag tag3 = new Tag("LANDED", new ArrayList<>(), new ArrayList<>());
+        otherTagMap.add(tag3);
+        uniqueTagMap.add(tag1);
+
+        // tag3 has ID 0 from the other map, which tag1 already uses in this one
+        uniqueTagMap.add(tag3);
+        assertEquals(1, tag3.getId());
+        assertTrue(uniqueTagMap.contains(tag3));
+
+        // Tags shared by both maps are numbered again by whichever map they were last added to
+        otherTagMap.setTags(List.of(tag1, tag2, tag3));
+        assertEquals(0, tag1.getId());
+        assertEquals(1, tag2.getId());
+        assertEquals(2, tag3.getId());
+
+        // Removing a tag that moved away still frees its ID in this map
+        uniqueTagMap.remove(tag3);
+        Tag tag4 = new Tag("EC", new ArrayList<>(), new ArrayList<>());
+        uniqueTagMap.add(tag4);
+        assertEquals(1, tag4.getId());
+    }
+
     @Test
     public void addPropertyPreferenceToTag_success() {
         uniqueTagMap.add(tag1);
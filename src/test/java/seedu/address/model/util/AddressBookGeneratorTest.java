@@ -0,0 +1,84 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PropertyPreference;
+import seedu.address.model.price.PriceRange;
+
+public class AddressBookGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        AddressBook first = AddressBookGenerator.generate(200, 300, 7);
+        AddressBook second = AddressBookGenerator.generate(200, 300, 7);
+
+        assertEquals(first, second);
+        assertEquals(first.getListingList(), second.getListingList());
+        assertEquals(first.getTagMap().keySet(), second.getTagMap().keySet());
+    }
+
+    @Test
+    public void generate_differentSeed_differentAddressBook() {
+        assertNotEquals(AddressBookGenerator.generate(200, 200, 7).getListingList(),
+                AddressBookGenerator.generate(200, 200, 8).getListingList());
+    }
+
+    @Test
+    public void generate_sizes_elementsLinked() {
+        AddressBook addressBook = AddressBookGenerator.generate(500, 800, AddressBookGenerator.DEFAULT_SEED);
+
+        assertEquals(500, addressBook.getPersonList().size());
+        assertEquals(800, addressBook.getListingList().size());
+        assertEquals(AddressBookGenerator.TAG_COUNT, addressBook.getTagMap().size());
+
+        for (Person person : addressBook.getPersonList()) {
+            assertFalse(person.getPropertyPreferences().isEmpty());
+        }
+        for (Listing listing : addressBook.getListingList()) {
+            assertFalse(listing.getOwners().isEmpty());
+            for (Person owner : listing.getOwners()) {
+                assertTrue(owner.getListings().contains(listing));
+            }
+        }
+    }
+
+    @Test
+    public void generate_tags_commonTagsMoreFrequent() {
+        AddressBook addressBook = AddressBookGenerator.generate(2000);
+
+        int mostCommonCount = addressBook.getTag(AddressBookGenerator.getTagName(0)).getListings().size();
+        int rareCount = addressBook.getTag(AddressBookGenerator.getTagName(50)).getListings().size();
+        assertTrue(mostCommonCount > 10 * rareCount);
+    }
+
+    @Test
+    public void generate_priceRanges_openEndedIncluded() {
+        AddressBook addressBook = AddressBookGenerator.generate(1000);
+
+        boolean hasUnboundedLower = false;
+        boolean hasUnboundedUpper = false;
+        for (Person person : addressBook.getPersonList()) {
+            for (PropertyPreference preference : person.getPropertyPreferences()) {
+                PriceRange priceRange = preference.getPriceRange();
+                hasUnboundedLower |= priceRange.lowerBoundPrice == null;
+                hasUnboundedUpper |= priceRange.upperBoundPrice == null;
+            }
+        }
+        assertTrue(hasUnboundedLower);
+        assertTrue(hasUnboundedUpper);
+    }
+
+    @Test
+    public void generate_listingsWithoutPersons_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> AddressBookGenerator.generate(0, 1, 1));
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void appendChanges_snapshotUnchanged_replayedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = new AddressBookJournal(filePath, false,
+                AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD_BYTES);
+
+        journal.writeSnapshot(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(HOON, HOON);
+        addressBook.addTag("pool");
+        journal.appendChanges();
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(AddressBookJournal.hasJournal(filePath));
+        AddressBook readBack = AddressBookJournal.replay(filePath);
+        assertEquals(addressBook, readBack);
+        assertTrue(readBack.hasTag("pool"));
+    }
+
+    @Test
+    public void closeAddressBook_journalBesideFile_foldedIntoFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(AddressBookJournal.hasJournal(filePath));
+
+        storage.closeAddressBook(addressBook);
+        assertFalse(AddressBookJournal.hasJournal(filePath));
+        assertEquals(addressBook, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void replay_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = new AddressBookJournal(filePath, false,
+                AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD_BYTES);
+
+        journal.writeSnapshot(addressBook);
+        addressBook.addPerson(HOON);
+        journal.appendChanges();
+        Files.writeString(AddressBookJournal.getJournalFilePath(filePath), "{\"sequence\":2,\"sec",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, AddressBookJournal.replay(filePath));
+    }
+
+    @Test
+    public void appendChanges_pastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = new AddressBookJournal(filePath, false, 1);
+
+        journal.writeSnapshot(addressBook);
+        addressBook.addPerson(HOON);
+        journal.appendChanges();
+        journal.awaitCompaction();
+
+        // every entry has been folded into the snapshot
+        assertFalse(AddressBookJournal.hasJournal(filePath));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        // entries after the compaction are journaled on top of the new snapshot
+        addressBook.addPerson(IDA);
+        journal.appendChanges();
+        journal.awaitCompaction();
+        addressBook.removePerson(HOON);
+        journal.appendChanges();
+        journal.awaitCompaction();
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void writeSnapshot_existingJournal_entriesNotAppliedAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = new AddressBookJournal(filePath, false,
+                AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD_BYTES);
+
+        journal.writeSnapshot(addressBook);
+        addressBook.addPerson(HOON);
+        journal.appendChanges();
+        Path journalFilePath = AddressBookJournal.getJournalFilePath(filePath);
+        byte[] entries = Files.readAllBytes(journalFilePath);
+
+        // a new snapshot written by another journal, with the old journal left behind as if by a crash
+        new AddressBookJournal(filePath, false, AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD_BYTES)
+                .writeSnapshot(addressBook);
+        Files.write(journalFilePath, entries);
+
+        assertEquals(addressBook, AddressBookJournal.replay(filePath));
+    }
+}
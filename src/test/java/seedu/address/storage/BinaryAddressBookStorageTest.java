@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ListingBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private BinaryAddressBookStorage createStorage(Path jsonFilePath) {
+        return new BinaryAddressBookStorage(BinaryAddressBookStorage.getSnapshotFilePath(jsonFilePath),
+                new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    @Test
+    public void getSnapshotFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getSnapshotFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.captureAddressBook(original);
+        storage.writeCapturedAddressBook();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_rightAfterRead_snapshotReplaced() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // The snapshot just read is replaced before anything else could release a hold on it
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void captureAddressBook_changedAfterSave_changesWritten() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        AddressBook original = getTypicalAddressBook();
+        original.addTags(Set.of("pool", "gym"));
+        Tag pool = original.getTag("pool");
+        Tag gym = original.getTag("gym");
+        Listing listing = new ListingBuilder().withTags(pool, gym).withOwners(CARL).build();
+        original.addListing(listing);
+        storage.saveAddressBook(original);
+
+        // Removing a person in front of the owner moves the owner, which the unchanged listing still refers to
+        original.removePerson(ALICE);
+        listing.removeTag(gym);
+        original.setListing(listing, listing);
+        original.addTag("quiet");
+        storage.captureAddressBook(original);
+        storage.writeCapturedAddressBook();
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        Listing readListing = readBack.getListingList().get(0);
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagMap().keySet(), readBack.getTagMap().keySet());
+        assertEquals(List.of(readBack.getPersonList().get(1)), readListing.getOwners());
+        assertEquals(Set.of(readBack.getTagMap().get("POOL")), readListing.getTags());
+    }
+
+    @Test
+    public void readAddressBook_listingsAndTags_linksRestored() throws Exception {
+        ReadOnlyAddressBook original = new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("tagsLastAddressBook.json"))
+                .readAddressBook().get();
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        Person owner = readBack.getPersonList().get(0);
+        Listing listing = readBack.getListingList().get(0);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getListingList(), readBack.getListingList());
+        assertEquals(original.getTagMap().keySet(), readBack.getTagMap().keySet());
+        assertEquals(List.of(owner), listing.getOwners());
+        assertEquals(List.of(listing), owner.getListings());
+        assertEquals(original.getListingList().get(0).getPriceRange(), listing.getPriceRange());
+        assertTrue(listing.getTags().contains(readBack.getTagMap().get("POOL")));
+        assertTrue(owner.getPropertyPreferences().get(0).getTags().contains(readBack.getTagMap().get("POOL")));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_importedFromJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        BinaryAddressBookStorage storage = createStorage(jsonFilePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("addressBook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(DataLoadingException.class, () ->
+                storage.readAddressBook(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] snapshot = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(snapshot, snapshot.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void closeAddressBook_savedSinceImport_jsonFileUpdated() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        BinaryAddressBookStorage storage = createStorage(jsonFilePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.closeAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_exportedAsJson() throws Exception {
+        BinaryAddressBookStorage storage = createStorage(testFolder.resolve("addressBook.json"));
+        Path exportFilePath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, exportFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportFilePath).readAddressBook().get()));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,25 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.events.AddressBookLoadEvent;
+import seedu.address.commons.events.AddressBookSaveEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +71,18 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_tagsAfterPersonsAndListings_success() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("tagsLastAddressBook.json").get();
+
+        Person owner = readBack.getPersonList().get(0);
+        Listing listing = readBack.getListingList().get(0);
+        assertEquals(List.of(owner), listing.getOwners());
+        assertEquals(List.of(listing), owner.getListings());
+        assertTrue(readBack.getTagMap().containsKey("POOL"));
+        assertTrue(listing.getTags().contains(readBack.getTagMap().get("POOL")));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +109,51 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_recording_eventsCommitted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Path recordingPath = testFolder.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(AddressBookSaveEvent.class);
+            recording.enable(AddressBookLoadEvent.class);
+            recording.start();
+            jsonAddressBookStorage.saveAddressBook(original);
+            jsonAddressBookStorage.readAddressBook();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        assertEquals(2, events.size());
+        RecordedEvent save = events.get(0);
+        assertEquals("seedu.address.AddressBookSave", save.getEventType().getName());
+        assertEquals(filePath.toString(), save.getString("path"));
+        assertEquals(Files.size(filePath), save.getLong("bytes"));
+        assertEquals(original.getPersonList().size(), save.getInt("persons"));
+        RecordedEvent load = events.get(1);
+        assertEquals("seedu.address.AddressBookLoad", load.getEventType().getName());
+        assertEquals(Files.size(filePath), load.getLong("bytes"));
+        assertEquals(original.getListingList().size(), load.getInt("listings"));
+        assertFalse(load.getBoolean("journalReplayed"));
+    }
+
+    @Test
+    public void saveAddressBook_prettyPrinted_readBackEqual() throws Exception {
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(compactFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(prettyFilePath, true).saveAddressBook(original);
+
+        assertFalse(FileUtil.readFromFile(compactFilePath).contains("\n"));
+        assertTrue(FileUtil.readFromFile(prettyFilePath).contains("\n"));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(prettyFilePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +48,46 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_allInOrder() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(1000);
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, List.of(), List.of(), 0).toModelType();
+
+        assertEquals(1000, addressBook.getPersonList().size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.format("9%07d", i), addressBook.getPersonList().get(i).getPhone().value);
+        }
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_firstInvalidPersonReported() {
+        List<JsonAdaptedPerson> persons = createPersons(1000);
+        persons.set(900, new JsonAdaptedPerson("Invalid Email", "81234567", "invalid", null));
+        persons.set(600, new JsonAdaptedPerson("Invalid Phone", "0123", "phone@example.com", null));
+        JsonSerializableAddressBook invalidPhoneFirst =
+                new JsonSerializableAddressBook(persons, List.of(), List.of(), 0);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, invalidPhoneFirst::toModelType);
+
+        persons.set(300, new JsonAdaptedPerson("Invalid Email", "81234568", "invalid", null));
+        JsonSerializableAddressBook invalidEmailFirst =
+                new JsonSerializableAddressBook(persons, List.of(), List.of(), 0);
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, invalidEmailFirst::toModelType);
+
+        // A duplicate is only found while linking, but is still reported before any later invalid person
+        persons.set(100, new JsonAdaptedPerson("Duplicate", "90000000", "duplicate@example.com", null));
+        JsonSerializableAddressBook duplicateFirst =
+                new JsonSerializableAddressBook(persons, List.of(), List.of(), 0);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                duplicateFirst::toModelType);
+    }
+
+    private static List<JsonAdaptedPerson> createPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new JsonAdaptedPerson("Person", String.format("9%07d", i),
+                    "person" + i + "@example.com", null));
+        }
+        return persons;
+    }
+
 }
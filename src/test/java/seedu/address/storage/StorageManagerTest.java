@@ -2,8 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -60,6 +64,55 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookInBackground_changesAfterCapture_notWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBookInBackground(original);
+        AddressBook captured = new AddressBook(original);
+        original.addPerson(HOON);
+
+        storageManager.flush();
+        storageManager.checkBackgroundSaves();
+        assertEquals(captured, new AddressBook(storageManager.readAddressBook().get()));
+
+        storageManager.saveAddressBookInBackground(original);
+        storageManager.flush();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void checkBackgroundSaves_writeFailed_throwsOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void writeCapturedAddressBook() throws IOException {
+                throw failure;
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        storageManager.saveAddressBookInBackground(getTypicalAddressBook());
+        storageManager.flush();
+        assertThrows(IOException.class, failure.getMessage(), storageManager::checkBackgroundSaves);
+        storageManager.checkBackgroundSaves();
+    }
+
+    @Test
+    public void exportInBackground_writesFileAndReportsFailure() throws Exception {
+        Path exportFilePath = getTempFilePath("export.csv");
+        storageManager.exportInBackground(exportFilePath, writer -> writer.write("a,b\n"));
+        storageManager.flush();
+        storageManager.checkBackgroundSaves();
+        assertEquals("a,b\n", FileUtil.readFromFile(exportFilePath));
+
+        IOException failure = new IOException("dummy IO exception");
+        storageManager.exportInBackground(exportFilePath, writer -> {
+            throw failure;
+        });
+        storageManager.flush();
+        assertThrows(IOException.class, failure.getMessage(), () -> storageManager.checkBackgroundSaves());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,118 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.listing.HouseNumber;
+import seedu.address.model.listing.Listing;
+import seedu.address.model.listing.PostalCode;
+import seedu.address.model.listing.PropertyName;
+import seedu.address.model.listing.UnitNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.price.Price;
+import seedu.address.model.price.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A utility class to help with building Listing objects.
+ */
+public class ListingBuilder {
+
+    public static final String DEFAULT_POSTAL_CODE = "123456";
+    public static final String DEFAULT_UNIT_NUMBER = "10-12";
+
+    private PostalCode postalCode;
+    private UnitNumber unitNumber;
+    private HouseNumber houseNumber;
+    private PriceRange priceRange;
+    private PropertyName propertyName;
+    private Set<Tag> tags;
+    private List<Person> owners;
+    private boolean isAvailable;
+
+    /**
+     * Creates a {@code ListingBuilder} with the default details, an unbounded price range, and no tags or owners.
+     */
+    public ListingBuilder() {
+        postalCode = new PostalCode(DEFAULT_POSTAL_CODE);
+        unitNumber = new UnitNumber(DEFAULT_UNIT_NUMBER);
+        priceRange = new PriceRange();
+        tags = new HashSet<>();
+        owners = new ArrayList<>();
+        isAvailable = true;
+    }
+
+    /**
+     * Sets the {@code PostalCode} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withPostalCode(String postalCode) {
+        this.postalCode = new PostalCode(postalCode);
+        return this;
+    }
+
+    /**
+     * Sets the {@code UnitNumber} of the {@code Listing} that we are building, in place of any house number.
+     */
+    public ListingBuilder withUnitNumber(String unitNumber) {
+        this.unitNumber = new UnitNumber(unitNumber);
+        this.houseNumber = null;
+        return this;
+    }
+
+    /**
+     * Sets the {@code HouseNumber} of the {@code Listing} that we are building, in place of any unit number.
+     */
+    public ListingBuilder withHouseNumber(String houseNumber) {
+        this.houseNumber = new HouseNumber(houseNumber);
+        this.unitNumber = null;
+        return this;
+    }
+
+    /**
+     * Sets the {@code PriceRange} of the {@code Listing} that we are building to {@code lower} to {@code upper}.
+     */
+    public ListingBuilder withPriceRange(String lower, String upper) {
+        this.priceRange = new PriceRange(new Price(lower), new Price(upper));
+        return this;
+    }
+
+    /**
+     * Sets the {@code PropertyName} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withPropertyName(String propertyName) {
+        this.propertyName = new PropertyName(propertyName);
+        return this;
+    }
+
+    /**
+     * Sets the {@code tags} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withTags(Tag... tags) {
+        this.tags = new HashSet<>(Arrays.asList(tags));
+        return this;
+    }
+
+    /**
+     * Sets the {@code owners} of the {@code Listing} that we are building.
+     */
+    public ListingBuilder withOwners(Person... owners) {
+        this.owners = new ArrayList<>(Arrays.asList(owners));
+        return this;
+    }
+
+    /**
+     * Sets whether the {@code Listing} that we are building is available.
+     */
+    public ListingBuilder withAvailability(boolean isAvailable) {
+        this.isAvailable = isAvailable;
+        return this;
+    }
+
+    public Listing build() {
+        return Listing.of(postalCode, unitNumber, houseNumber, priceRange, propertyName, tags, owners, isAvailable);
+    }
+
+}